@@ -0,0 +1,39 @@
+package com.luchersol.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the usual JMH command line options and always
+ * adds the GC profiler, so every result comes with its allocation rate per operation
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * mvn -pl checker-benchmarks -am package
+ * java -jar checker-benchmarks/target/benchmarks.jar CheckerIsBenchmark
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks selected by the command line, with the GC profiler.
+     *
+     * @param args the JMH command line options, e.g. a benchmark name pattern
+     * @throws Exception if the options are invalid or the benchmarks cannot be run
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
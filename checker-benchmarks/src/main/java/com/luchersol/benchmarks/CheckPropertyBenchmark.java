@@ -0,0 +1,98 @@
+package com.luchersol.benchmarks;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.util.AbstractChecker;
+import com.luchersol.core.util.Checker;
+
+/**
+ * The ways of reaching a property of the checked object: an extractor function, a compiled
+ * property path with fields and methods, and the reflective {@code getProperty} lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckPropertyBenchmark {
+
+    /**
+     * Object graph navigated by the benchmarks.
+     */
+    public static class Order {
+
+        public final Customer customer = new Customer();
+
+        public Customer getCustomer() {
+            return this.customer;
+        }
+
+        public String line(Integer index) {
+            return "line" + index;
+        }
+
+    }
+
+    public static class Customer {
+
+        public final String name = "Lucas";
+
+        public String getName() {
+            return this.name;
+        }
+
+    }
+
+    private Checker<Order> checker;
+
+    @Setup
+    public void setup() {
+        this.checker = Checker.check(new Order(), "order");
+    }
+
+    @Benchmark
+    public Checker<?> extractor() {
+        return this.checker.checkProperty(order -> order.getCustomer().getName(), "customer.name");
+    }
+
+    @Benchmark
+    public Checker<?> fieldPath() {
+        return this.checker.checkProperty("customer.name");
+    }
+
+    @Benchmark
+    public Checker<?> methodPath() {
+        return this.checker.checkProperty("getCustomer().getName()");
+    }
+
+    @Benchmark
+    public Checker<?> methodWithArgumentPath() {
+        return this.checker.checkProperty("line(1)", 7);
+    }
+
+    @Benchmark
+    public Checker<?> namedArgumentPath() throws Exception {
+        return this.checker.checkProperty("line(index)", Map.<String, Object>of("index", 7));
+    }
+
+    @Benchmark
+    public Object reflectiveGetProperty() throws Exception {
+        return AbstractChecker.getProperty(this.checker.getObject(), new LinkedList<>(List.of("customer", "name")), null);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.luchersol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.util.Checker;
+import com.luchersol.core.util.CheckerException;
+import com.luchersol.core.util.MessageService;
+
+/**
+ * Passing and failing paths of {@code AbstractChecker.is()} that do not depend on a tracking
+ * level: throwing, and the exception-free {@code test()} path. Saving errors is measured at
+ * every tracking level by {@link CheckerIsSavingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckerIsBenchmark {
+
+    static final Predicate<String> PASS = value -> value.length() > 3;
+    static final Predicate<String> FAIL = value -> value.length() < 3;
+
+    private Checker<String> checker;
+
+    @Setup
+    public void setup() {
+        this.checker = Checker.check("value", "value");
+    }
+
+    @Benchmark
+    public Checker<String> passThrowing() {
+        return this.checker.is(PASS, MessageService.sendMessage("abstract_checker", "is"));
+    }
+
+    @Benchmark
+    public Object failThrowing() {
+        try {
+            return this.checker.is(FAIL, MessageService.sendMessage("abstract_checker", "is"));
+        } catch (CheckerException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean failTest() {
+        return this.checker.test(checker -> checker.is(FAIL, MessageService.sendMessage("abstract_checker", "is")));
+    }
+
+}
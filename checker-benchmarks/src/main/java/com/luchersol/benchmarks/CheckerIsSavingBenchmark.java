@@ -0,0 +1,71 @@
+package com.luchersol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.util.Checker;
+import com.luchersol.core.util.ExceptionTracker.TrackingLevel;
+import com.luchersol.core.util.MessageService;
+
+/**
+ * Passing and failing paths of {@code AbstractChecker.is()} when errors are saved, at every
+ * tracking level.
+ *
+ * <p>
+ * Each operation rebinds the checker to its emptied tracker before the check, so that saved
+ * checks do not pile up, and so measures a rebind plus a check. {@link #rebind()} measures
+ * the rebind alone, to be subtracted from the other two. Resetting the state outside of the
+ * measurement with a per-invocation setup would cost more than the check itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckerIsSavingBenchmark {
+
+    @Param({ "ALL", "FAILURES", "NONE" })
+    public TrackingLevel trackingLevel;
+
+    private Checker<String> checker;
+
+    @Setup
+    public void setup() {
+        this.checker = Checker.check("value", "value");
+    }
+
+    @Benchmark
+    public Checker<String> rebind() {
+        return saving();
+    }
+
+    @Benchmark
+    public Checker<String> rebindAndPass() {
+        return saving().is(CheckerIsBenchmark.PASS, MessageService.sendMessage("abstract_checker", "is"));
+    }
+
+    @Benchmark
+    public Checker<String> rebindAndFail() {
+        return saving().is(CheckerIsBenchmark.FAIL, MessageService.sendMessage("abstract_checker", "is"));
+    }
+
+    /**
+     * Rebinds the checker to its emptied tracker, saving errors at the tracking level.
+     */
+    private Checker<String> saving() {
+        return this.checker.rebind("value", "value").saveErrors().setTrackingLevel(this.trackingLevel);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.luchersol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.util.Checker;
+import com.luchersol.core.util.ConcurrentExceptionTracker;
+import com.luchersol.core.util.ExceptionTracker;
+
+/**
+ * Recording into a tracker shared by every benchmark thread: a {@link ConcurrentExceptionTracker}
+ * against an {@link ExceptionTracker} guarded by a single lock. Each thread runs a fixed batch
+ * of checks per iteration into a fresh tracker, so the recorded failures stay bounded; vary the
+ * number of threads with {@code -t}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, batchSize = ConcurrentTrackerBenchmark.BATCH)
+@Measurement(iterations = 10, batchSize = ConcurrentTrackerBenchmark.BATCH)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentTrackerBenchmark {
+
+    static final int BATCH = 100_000;
+
+    @Param({ "locked", "concurrent" })
+    public String kind;
+
+    private ExceptionTracker tracker;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        this.tracker = "concurrent".equals(this.kind) ? new ConcurrentExceptionTracker("report") : new LockedExceptionTracker("report");
+        this.tracker.setTrackingLevel(ExceptionTracker.TrackingLevel.FAILURES);
+    }
+
+    /**
+     * The checker of one benchmark thread, recording into the shared tracker.
+     */
+    @State(Scope.Thread)
+    public static class ThreadChecker {
+
+        private Checker<String> checker;
+
+        @Setup(Level.Iteration)
+        public void setup(ConcurrentTrackerBenchmark benchmark) {
+            this.checker = Checker.check("value", "field").setExceptionTracker(benchmark.tracker).saveErrors();
+        }
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public Checker<String> record(ThreadChecker state) {
+        return state.checker.isNonNull().isNull();
+    }
+
+    /**
+     * Default tracker guarded by a single lock, as callers had to do before.
+     */
+    private static class LockedExceptionTracker extends ExceptionTracker {
+
+        LockedExceptionTracker(String name) {
+            super(name);
+        }
+
+        @Override
+        public synchronized void addThrownException(Exception e) {
+            super.addThrownException(e);
+        }
+
+        @Override
+        public synchronized void addPassedChecks(Exception e) {
+            super.addPassedChecks(e);
+        }
+
+        @Override
+        protected synchronized void countPassedCheck() {
+            super.countPassedCheck();
+        }
+
+        @Override
+        public synchronized void addNotCheckedException(Exception e) {
+            super.addNotCheckedException(e);
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.luchersol.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.util.Utils;
+
+/**
+ * Deep comparison with {@code Utils.equalsContent}, used by {@code isEqual}, on equal arrays,
+ * lists, nested arrays and maps of a given size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EqualsContentBenchmark {
+
+    @Param({ "10", "1000" })
+    public int size;
+
+    private int[] array;
+    private int[] arrayCopy;
+    private Integer[][] matrix;
+    private Integer[][] matrixCopy;
+    private List<String> list;
+    private List<String> listCopy;
+    private Map<String, Integer> map;
+    private Map<String, Integer> mapCopy;
+
+    @Setup
+    public void setup() {
+        this.array = new int[this.size];
+        this.matrix = new Integer[this.size][2];
+        this.list = new ArrayList<>();
+        this.map = new HashMap<>();
+        for (int i = 0; i < this.size; i++) {
+            this.array[i] = i;
+            this.matrix[i] = new Integer[]{ i, -i };
+            this.list.add("element" + i);
+            this.map.put("key" + i, i);
+        }
+        this.arrayCopy = this.array.clone();
+        this.matrixCopy = new Integer[this.size][];
+        for (int i = 0; i < this.size; i++) {
+            this.matrixCopy[i] = this.matrix[i].clone();
+        }
+        this.listCopy = new ArrayList<>(this.list);
+        this.mapCopy = new HashMap<>(this.map);
+    }
+
+    @Benchmark
+    public boolean primitiveArray() {
+        return Utils.equalsContent(this.array, this.arrayCopy);
+    }
+
+    @Benchmark
+    public boolean nestedArray() {
+        return Utils.equalsContent(this.matrix, this.matrixCopy);
+    }
+
+    @Benchmark
+    public boolean list() {
+        return Utils.equalsContent(this.list, this.listCopy);
+    }
+
+    @Benchmark
+    public boolean map() {
+        return Utils.equalsContent(this.map, this.mapCopy);
+    }
+
+}
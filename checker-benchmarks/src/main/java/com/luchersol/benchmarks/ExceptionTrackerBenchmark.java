@@ -0,0 +1,99 @@
+package com.luchersol.benchmarks;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.util.Checker;
+import com.luchersol.core.util.CheckerException;
+import com.luchersol.core.util.CompactExceptionTracker;
+import com.luchersol.core.util.ExceptionTracker;
+
+/**
+ * Recording into an {@code ExceptionTracker} and merging nested trackers into their parent.
+ * Each invocation works on fresh trackers of {@value #CHECKS} checks, so the measured time and
+ * allocation are per recorded check or per merged child.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExceptionTrackerBenchmark {
+
+    static final int CHECKS = 100;
+
+    @Param({ "default", "compact" })
+    public String kind;
+
+    private CheckerException[] exceptions;
+
+    @Setup
+    public void setup() {
+        this.exceptions = new CheckerException[CHECKS];
+        for (int i = 0; i < CHECKS; i++) {
+            try {
+                Checker.check(i, "value").isNull();
+            } catch (CheckerException e) {
+                this.exceptions[i] = e;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public ExceptionTracker addThrownException() {
+        ExceptionTracker tracker = newTracker("value");
+        for (CheckerException exception : this.exceptions) {
+            tracker.addThrownException(exception);
+        }
+        return tracker;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public ExceptionTracker addPassedChecks() {
+        ExceptionTracker tracker = newTracker("value");
+        for (CheckerException exception : this.exceptions) {
+            tracker.addPassedChecks(exception);
+        }
+        return tracker;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public ExceptionTracker mergeChildren() {
+        ExceptionTracker parent = newTracker("order");
+        for (int i = 0; i < CHECKS; i++) {
+            ExceptionTracker child = parent.createChild("order.line");
+            child.addThrownException(this.exceptions[i]);
+            parent.merge(child);
+        }
+        return parent;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHECKS)
+    public Map<String, Set<CheckerException>> mergeChildrenAndRead() {
+        return mergeChildren().getThrownExceptions();
+    }
+
+    private ExceptionTracker newTracker(String name) {
+        return "compact".equals(this.kind) ? CompactExceptionTracker.empty(name) : ExceptionTracker.empty(name);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.luchersol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.util.Message;
+import com.luchersol.core.util.MessageService;
+
+/**
+ * Creation of messages with {@code MessageService.sendMessage}, which is lazy, and the cost of
+ * formatting them, paid only by failed or recorded checks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageServiceBenchmark {
+
+    private int length = 5;
+
+    @Benchmark
+    public Message sendMessage() {
+        return MessageService.sendMessage("string", "min");
+    }
+
+    @Benchmark
+    public Message sendMessageWithArgs() {
+        return MessageService.sendMessage("string", "min", this.length);
+    }
+
+    @Benchmark
+    public String sendMessageAndFormat() {
+        return MessageService.sendMessage("string", "min", this.length).getMessage();
+    }
+
+    @Benchmark
+    public String sendNegatedMessageAndFormat() {
+        return MessageService.sendMessage("string", "min", this.length).negate().getMessage();
+    }
+
+}
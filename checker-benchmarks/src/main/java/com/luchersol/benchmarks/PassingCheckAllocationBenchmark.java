@@ -0,0 +1,61 @@
+package com.luchersol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+import com.luchersol.core.specialized_checkers.math.numbers.integerTypes.CheckerInteger;
+
+/**
+ * Passing checks on reused checkers, which should allocate nothing once the checker calls are
+ * inlined and their captures scalar-replaced. The time and {@code gc.alloc.rate.norm} are per
+ * check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PassingCheckAllocationBenchmark {
+
+    private static final int VALUES = 1024;
+
+    private Integer[] numbers;
+    private String[] strings;
+    private CheckerInteger integer;
+    private CheckerString string;
+    private int index;
+
+    @Setup
+    public void setup() {
+        this.numbers = new Integer[VALUES];
+        this.strings = new String[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            this.numbers[i] = 2 * (i + 1);
+            this.strings[i] = "Hello" + i;
+        }
+        this.integer = CheckerInteger.check(this.numbers[0], "number");
+        this.string = CheckerString.check(this.strings[0], "greeting");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public CheckerString passingChecks() {
+        int i = this.index = (this.index + 1) & (VALUES - 1);
+        this.integer.setObject(this.numbers[i]).isPositive().isEven();
+        return this.string.setObject(this.strings[i]).isNonNull().startsWith("Hello");
+    }
+
+}
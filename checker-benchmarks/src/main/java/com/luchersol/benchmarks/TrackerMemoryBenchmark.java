@@ -0,0 +1,55 @@
+package com.luchersol.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.luchersol.core.specialized_checkers.math.numbers.integerTypes.CheckerInteger;
+import com.luchersol.core.util.AggregatingExceptionTracker;
+import com.luchersol.core.util.CompactExceptionTracker;
+import com.luchersol.core.util.ExceptionTracker;
+
+/**
+ * Records {@value #VIOLATIONS} violations into a fresh tracker of each kind. Every recorded
+ * violation stays reachable from the returned tracker, so {@code gc.alloc.rate.norm}, per
+ * violation, bounds the heap each kind retains.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class TrackerMemoryBenchmark {
+
+    static final int VIOLATIONS = 1_000_000;
+
+    @Param({ "default", "compact", "aggregating" })
+    public String kind;
+
+    @Benchmark
+    @OperationsPerInvocation(VIOLATIONS)
+    public ExceptionTracker record() {
+        ExceptionTracker tracker = switch (this.kind) {
+            case "compact" -> CompactExceptionTracker.empty("rows");
+            case "aggregating" -> AggregatingExceptionTracker.empty("rows");
+            default -> ExceptionTracker.empty("rows");
+        };
+        CheckerInteger checker = CheckerInteger.check(-1, "row").setExceptionTracker(tracker).saveErrors();
+        for (int i = 0; i < VIOLATIONS / 2; i++) {
+            checker.isPositive().isGreaterThan(i);
+        }
+        return tracker;
+    }
+
+}
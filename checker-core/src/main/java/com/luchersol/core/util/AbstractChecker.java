@@ -4,14 +4,15 @@ import static com.luchersol.core.util.MessageService.*;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Queue;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,6 +40,11 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
     private static final String REGEX_METHOD_BY_NUMBER_PARAMS = "^(?<function>[a-zA-Z_][a-zA-Z0-9_]*)\\((?<numParams>\\d+)?\\)$";
     private static final String REGEX_PARENTHESIS = "\\((.*?)\\)";
 
+    static final Pattern POINT_PROPERTIES = Pattern.compile(REGEX_POINT_PROPERTIES);
+    static final Pattern METHOD_BY_NAME_PARAMS = Pattern.compile(REGEX_METHOD_BY_NAME_PARAMS);
+    static final Pattern METHOD_BY_NUMBER_PARAMS = Pattern.compile(REGEX_METHOD_BY_NUMBER_PARAMS);
+    static final Pattern PARENTHESIS = Pattern.compile(REGEX_PARENTHESIS);
+
     /**
      * The object being checked.
      */
@@ -69,6 +75,17 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
      */
     protected AbstractChecker<T, C> backObject;
 
+    /**
+     * Tracker owned by this checker, reset and reused on every {@link #rebind(Object, String)}
+     * unless it is shared.
+     */
+    private ExceptionTracker reusableTracker;
+
+    /**
+     * The exception-free evaluation in progress, or null when checks throw or save errors.
+     */
+    Evaluation evaluation;
+
     /**
      * Constructor initializing the checker with a name.
      * @param name Name of the object for reporting purposes
@@ -154,6 +171,51 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
         return self();
     }
 
+    /**
+     * Sets the level of detail kept by the exception tracker when errors are saved.
+     * Use {@link ExceptionTracker.TrackingLevel#FAILURES} or {@link ExceptionTracker.TrackingLevel#NONE}
+     * on long-lived checkers to keep memory flat.
+     *
+     * @param trackingLevel the tracking level
+     * @return this checker instance
+     */
+    public C setTrackingLevel(ExceptionTracker.TrackingLevel trackingLevel) {
+        this.exceptionTracker.setTrackingLevel(trackingLevel);
+        return self();
+    }
+
+    /**
+     * Sets the number of failed checks after which, when errors are saved, the remaining
+     * checks are recorded as not checked without running them. The budget is set on the
+     * exception tracker and shared with the checkers of nested properties.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * CheckerMatrix.check(matrix, "covariance").saveErrors().setViolationBudget(1)
+     *     .isSquare().isSymmetric().isPositiveDefinite();
+     * }</pre>
+     *
+     * @param violationBudget the maximum number of failed checks
+     * @return this checker instance
+     */
+    public C setViolationBudget(long violationBudget) {
+        this.exceptionTracker.setViolationBudget(violationBudget);
+        return self();
+    }
+
+    /**
+     * Hands off the checks that fail while errors are saved to the given pipeline, which
+     * formats and writes them on its own thread. The pipeline is set on the exception tracker
+     * and shared with the checkers of nested properties.
+     *
+     * @param violationPipeline the violation pipeline, or null to stop publishing
+     * @return this checker instance
+     */
+    public C setViolationPipeline(ViolationPipeline violationPipeline) {
+        this.exceptionTracker.setViolationPipeline(violationPipeline);
+        return self();
+    }
+
     /**
      * Sets whether further checks should stop.
      *
@@ -175,6 +237,7 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
         this.stop = checker.stop;
         this.exceptionTracker = checker.exceptionTracker;
         this.saveErrors = checker.saveErrors;
+        this.evaluation = checker.evaluation;
         return self();
     }
 
@@ -189,6 +252,59 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
         return self();
     }
 
+    /**
+     * Reuses this checker for another object, resetting every state to the one of a
+     * newly created checker: errors are thrown, checks stop if the object is null, the
+     * checker has no parent and its exception tracker is empty.
+     *
+     * <p>
+     * The tracker is owned by the checker and cleared on every rebind, so after the first
+     * rebind no tracker is allocated. A tracker that was merged by reference into a parent
+     * tracker, or wrapped in a {@link ValidationResult}, is left untouched and replaced by a
+     * new one. Otherwise, read the results of the previous object before rebinding, or use
+     * {@link #rebind(Object, String, ExceptionTracker)} to keep them in another tracker.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * CheckerString checker = CheckerString.check(null);
+     * for (String line : lines) {
+     *     checker.rebind(line, "line").isBlank();
+     * }
+     * }</pre>
+     *
+     * @param object the object to check
+     * @param name   the name of the object
+     * @return this checker instance
+     */
+    public C rebind(T object, String name) {
+        if (this.reusableTracker == null || this.reusableTracker.isShared()) {
+            this.reusableTracker = ExceptionTracker.empty(name);
+        } else {
+            this.reusableTracker.reset(name);
+        }
+        return rebind(object, name, this.reusableTracker);
+    }
+
+    /**
+     * Reuses this checker for another object, recording into the given exception tracker.
+     * Every other state is reset to the one of a newly created checker.
+     *
+     * @param object           the object to check
+     * @param name             the name of the object
+     * @param exceptionTracker the tracker for exceptions, which is not cleared
+     * @return this checker instance
+     */
+    public C rebind(T object, String name, ExceptionTracker exceptionTracker) {
+        this.object = object;
+        this.name = name;
+        this.exceptionTracker = exceptionTracker;
+        this.saveErrors = false;
+        this.stop = object == null;
+        this.backObject = self();
+        this.evaluation = null;
+        return self();
+    }
+
 
     /**
      * Stops further checks in the current checker.
@@ -205,32 +321,149 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
 
     /**
      * Validates the object with a custom condition and message.
+     * The message is only formatted, and the exception only created, when the check
+     * fails or has to be recorded in the exception tracker.
      * @param condition Condition to validate
      * @param message Message to use if the check fails
      * @return The current checker instance
      */
     public C is(Predicate<T> condition, Message message) {
-        var validationException = new CheckerException(message);
-        if (stop) {
-            this.exceptionTracker.addNotCheckedException(validationException.negate());
+        if (this.evaluation != null) {
+            if (!stop && !this.evaluation.isDone() && !runCondition(condition, message)) {
+                this.evaluation.fail(this.name, message);
+            }
+            return self();
+        }
+
+        if (stop || saveErrors && this.exceptionTracker.isBudgetExhausted()) {
+            this.exceptionTracker.addNotCheckedException(new CheckerException(message).negate());
             return self();
         }
 
-        if (!condition.test(this.object)) {
+        return report(runCondition(condition, message), message);
+    }
+
+    /**
+     * Throws or records the outcome of a check whose condition has already been run.
+     *
+     * @param passed  whether the condition held
+     * @param message the message of the check
+     * @return The current checker instance
+     */
+    private C report(boolean passed, Message message) {
+        if (!passed) {
+            var validationException = new CheckerException(message).negate();
             if (saveErrors) {
-                this.exceptionTracker.addThrownException(validationException.negate());
+                this.exceptionTracker.addThrownException(validationException);
             } else {
-                throw validationException.negate();
+                throw validationException;
             }
         } else {
             if (saveErrors) {
-                this.exceptionTracker.addPassedChecks(validationException);
+                if (this.exceptionTracker.isTrackingPassedChecks()) {
+                    this.exceptionTracker.addPassedChecks(new CheckerException(message));
+                } else {
+                    this.exceptionTracker.countPassedCheck();
+                }
             }
         }
 
         return self();
     }
 
+    /**
+     * Validates the object with a custom condition and a deferred message.
+     * The supplier is only invoked when the check fails or has to be recorded,
+     * so passing checks do not build any message.
+     * @param condition Condition to validate
+     * @param message Supplier of the message to use if the check fails
+     * @return The current checker instance
+     */
+    public C is(Predicate<T> condition, Supplier<Message> message) {
+        if (this.evaluation != null) {
+            if (!stop && !this.evaluation.isDone() && !runCondition(condition, message)) {
+                this.evaluation.fail(this.name, message.get());
+            }
+            return self();
+        }
+
+        if (stop || saveErrors && this.exceptionTracker.isBudgetExhausted()) {
+            return is(condition, message.get());
+        }
+
+        boolean passed = runCondition(condition, message);
+        if (passed && !saveErrors) {
+            return self();
+        }
+        return report(passed, message.get());
+    }
+
+    /**
+     * Runs the condition of a check on the object, timing it for the installed
+     * {@link CheckListener} and for the {@link CheckEvent}, if any of them is on.
+     * Otherwise the condition is just run.
+     *
+     * @param condition the condition of the check
+     * @param message   the message of the check
+     * @return whether the condition held
+     */
+    private boolean runCondition(Predicate<T> condition, Message message) {
+        CheckListener listener = CheckInstrumentation.listener;
+        CheckEvent event = new CheckEvent();
+        if (listener == null && !event.isEnabled()) {
+            return condition.test(this.object);
+        }
+        return runInstrumented(condition, message, null, listener, event);
+    }
+
+    /**
+     * Runs the condition of a check on the object, timing it for the installed
+     * {@link CheckListener} and for the {@link CheckEvent}, if any of them is on. The message
+     * is only built when it is reported.
+     *
+     * @param condition the condition of the check
+     * @param message   the supplier of the message of the check
+     * @return whether the condition held
+     */
+    private boolean runCondition(Predicate<T> condition, Supplier<Message> message) {
+        CheckListener listener = CheckInstrumentation.listener;
+        CheckEvent event = new CheckEvent();
+        if (listener == null && !event.isEnabled()) {
+            return condition.test(this.object);
+        }
+        return runInstrumented(condition, null, message, listener, event);
+    }
+
+    /**
+     * Runs and times the condition of a check, reporting it to the listener and committing
+     * its {@link CheckEvent} if it is slower than the event threshold.
+     *
+     * @param condition the condition of the check
+     * @param message   the message of the check, or null to get it from the supplier
+     * @param supplier  the supplier of the message, used when it is needed
+     * @param listener  the installed listener, or null
+     * @param event     the Flight Recorder event of the check
+     * @return whether the condition held
+     */
+    private boolean runInstrumented(Predicate<T> condition, Message message, Supplier<Message> supplier, CheckListener listener, CheckEvent event) {
+        event.begin();
+        long start = System.nanoTime();
+        boolean passed = condition.test(this.object);
+        long elapsed = System.nanoTime() - start;
+        event.end();
+        boolean commit = event.shouldCommit();
+        if (listener != null || commit) {
+            Message checkMessage = message != null ? message : supplier.get();
+            if (listener != null) {
+                listener.onCheck(checkMessage, passed, elapsed);
+            }
+            if (commit) {
+                event.commit(this.name, checkMessage, passed);
+            }
+        }
+        return passed;
+    }
+
     /**
      * Validates the object with a custom condition and message.
      * @param condition Condition to validate
@@ -295,6 +528,97 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
     }
 
 
+    /**
+     * Checks that the object passes at least one of the given alternatives. The alternatives
+     * are evaluated in order without creating exceptions, stopping at the first one that passes.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * CheckerString.check(date, "date")
+     *     .anyOf(checker -> checker.matches("\\d{4}-\\d{2}-\\d{2}"),
+     *            checker -> checker.matches("\\d{2}/\\d{2}/\\d{4}"));
+     * }</pre>
+     *
+     * @param alternatives the alternative chains of checks
+     * @return The current checker instance
+     */
+    @SafeVarargs
+    public final C anyOf(Consumer<? super C>... alternatives) {
+        return is(object -> {
+            for (Consumer<? super C> alternative : alternatives) {
+                if (test(alternative)) {
+                    return true;
+                }
+            }
+            return false;
+        }, sendMessage(INIT_ABSTRACT_CHECKER, "any_of"));
+    }
+
+    /**
+     * Checks that the object passes all of the given chains of checks, reported as a single
+     * check. The chains are evaluated in order without creating exceptions, stopping at the
+     * first failed check.
+     *
+     * @param checks the chains of checks
+     * @return The current checker instance
+     */
+    @SafeVarargs
+    public final C allOf(Consumer<? super C>... checks) {
+        return is(object -> test(checker -> {
+            for (Consumer<? super C> check : checks) {
+                check.accept(self());
+            }
+        }), sendMessage(INIT_ABSTRACT_CHECKER, "all_of"));
+    }
+
+    /**
+     * Returns whether the object passes the given checks, without throwing, creating any
+     * exception or recording anything in the exception tracker. Evaluation stops at the
+     * first failed check.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * if (CheckerString.check(input).test(checker -> checker.isEmail())) { ... }
+     * }</pre>
+     *
+     * @param checks the checks, applied to this checker
+     * @return true if no check failed
+     */
+    public boolean test(Consumer<? super C> checks) {
+        return evaluate(checks, true).isValid();
+    }
+
+    /**
+     * Applies the given checks and returns their result, without throwing, creating any
+     * exception or recording anything in the exception tracker. Every check is evaluated.
+     *
+     * @param checks the checks, applied to this checker
+     * @return the result of the checks
+     */
+    public ValidationResult validate(Consumer<? super C> checks) {
+        return ValidationResult.of(this.name, evaluate(checks, false));
+    }
+
+    /**
+     * Applies the given checks within a new exception-free evaluation, restoring the previous
+     * mode of this checker afterwards.
+     *
+     * @param checks       the checks, applied to this checker
+     * @param shortCircuit whether to stop at the first failed check
+     * @return the evaluation
+     */
+    private Evaluation evaluate(Consumer<? super C> checks, boolean shortCircuit) {
+        Evaluation previous = this.evaluation;
+        Evaluation evaluation = new Evaluation(shortCircuit);
+        this.evaluation = evaluation;
+        try {
+            checks.accept(self());
+        } finally {
+            this.evaluation = previous;
+        }
+        return evaluation;
+    }
+
     /**
      * Enables saving errors in the exception tracker instead of throwing immediately.
      * @return The current checker instance
@@ -373,8 +697,10 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
         try {
             R obj = extractor.apply(object);
             Checker<R> checker = new Checker<R>(obj, name + "." + propertyName);
+            checker.exceptionTracker = childTracker(checker.name);
             checker.saveErrors = this.saveErrors;
             checker.stop = this.stop;
+            checker.evaluation = this.evaluation;
             checker.backObject = (Checker<R>) self();
             return checker;
         } catch (Exception e) {
@@ -393,28 +719,17 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Checker<?> checkProperty(String propertyPath, Object... args) {
-        int numArgs = 0;
-        Pattern pattern = Pattern.compile(REGEX_PARENTHESIS);
-        Matcher matcher = pattern.matcher(propertyPath);
-
-        while (matcher.find()){
-            String str = matcher.group(1);
-            if(str != null && !str.isBlank()){
-                numArgs += Integer.valueOf(str);
-            }
-        }
-
-        if (numArgs != args.length)
+        PropertyPath path = PropertyPath.of(propertyPath);
+        if (path.countNumberedArgs() != args.length)
             return null;
 
         try {
-            String[] split = propertyPath.split(REGEX_POINT_PROPERTIES);
-            Queue<String> properties = new LinkedList<>(Arrays.asList(split));
-            Queue<Object> argsQueue = new LinkedList<>(Arrays.asList(args));
-            Object obj = getProperty(this.object, properties, argsQueue);
+            Object obj = path.resolve(this.object, args);
             Checker<?> checker = new Checker<>(obj, name + "." + propertyPath);
+            checker.exceptionTracker = childTracker(checker.name);
             checker.saveErrors = this.saveErrors;
             checker.stop = this.stop;
+            checker.evaluation = this.evaluation;
             checker.backObject = (Checker) self();
             return checker;
         } catch (Exception e) {
@@ -435,24 +750,15 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Checker<?> checkProperty(String propertyPath, List<Entry<Object, Class<?>>> args) throws Exception {
-        int numArgs = 0;
-        Pattern pattern = Pattern.compile(REGEX_PARENTHESIS);
-        Matcher matcher = pattern.matcher(propertyPath);
-
-        while (matcher.find()){
-            String str = matcher.group(1);
-            if(!str.isBlank())
-                numArgs += Integer.valueOf(str);
-        }
-
-        if (numArgs != args.size())
+        PropertyPath path = PropertyPath.of(propertyPath);
+        if (path.countNumberedArgs() != args.size())
             return null;
 
         try {
-            String[] split = propertyPath.split(REGEX_POINT_PROPERTIES);
-            Queue<String> properties = new LinkedList<>(Arrays.asList(split));
-            Object obj = getProperty(this.object, properties, args);
+            Object obj = path.resolve(this.object, args);
             Checker<?> checker = new Checker<>(obj, name + "." + propertyPath);
+            checker.exceptionTracker = childTracker(checker.name);
+            checker.evaluation = this.evaluation;
             checker.backObject = (Checker) self();
             return checker;
         } catch (Exception e) {
@@ -469,24 +775,15 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Checker<?> checkProperty(String propertyPath, Map<String, Object> args) throws Exception {
-        int numArgs = 0;
-        Pattern pattern = Pattern.compile(REGEX_PARENTHESIS);
-        Matcher matcher = pattern.matcher(propertyPath);
-
-        while (matcher.find()){
-            String group = matcher.group(1);
-            if(group != null && !group.isBlank()){
-                numArgs += group.split(",").length;
-            }
-        }
-        if (numArgs != args.size())
+        PropertyPath path = PropertyPath.of(propertyPath);
+        if (path.countNamedArgs() != args.size())
             return null;
 
         try {
-            String[] split = propertyPath.split(REGEX_POINT_PROPERTIES);
-            Queue<String> properties = new LinkedList<>(Arrays.asList(split));
-            Object obj = getProperty(this.object, properties, args);
+            Object obj = path.resolve(this.object, args);
             Checker<?> checker = new Checker<>(obj, name + "." + propertyPath);
+            checker.exceptionTracker = childTracker(checker.name);
+            checker.evaluation = this.evaluation;
             checker.backObject = (Checker) self();
             return checker;
         } catch (Exception e) {
@@ -590,15 +887,13 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
     public static Object getMethod(Object object, Queue<String> propertyPath, Object params) throws Exception {
 
         String property = propertyPath.poll();
-        Pattern namePattern = Pattern.compile(REGEX_METHOD_BY_NAME_PARAMS);
-        Matcher nameMatcher = namePattern.matcher(property);
+        Matcher nameMatcher = METHOD_BY_NAME_PARAMS.matcher(property);
 
         if (nameMatcher.find()) {
             return handleMethod(object, propertyPath, params, nameMatcher, true);
         }
 
-        Pattern numberPattern = Pattern.compile(REGEX_METHOD_BY_NUMBER_PARAMS);
-        Matcher numberMatcher = numberPattern.matcher(property);
+        Matcher numberMatcher = METHOD_BY_NUMBER_PARAMS.matcher(property);
 
         if (numberMatcher.find()) {
             return handleMethod(object, propertyPath, params, numberMatcher, false);
@@ -681,15 +976,29 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
      * Ends the current checker and returns the previous checker in the chain.
      * Merges the current exception tracker into the previous checker's tracker.
      * Useful for nested property checks.
+     * Within an exception-free evaluation nothing is recorded, so nothing is merged.
      *
      * @return The previous checker in the chain
      */
     public Checker<?> end(){
-        ExceptionTracker exceptionTracker = this.exceptionTracker;
-        this.backObject.exceptionTracker.merge(exceptionTracker);
+        if (this.evaluation == null) {
+            this.backObject.exceptionTracker.merge(this.exceptionTracker);
+        }
         return this.backObject.toChecker();
     }
 
+    /**
+     * Returns the tracker for a property checker of this checker. Within an exception-free
+     * evaluation the checks record nothing, so the property checker shares this tracker
+     * instead of a child that {@link #end()} would attach to it.
+     *
+     * @param name the name of the property checker
+     * @return the tracker for the property checker
+     */
+    private ExceptionTracker childTracker(String name) {
+        return this.evaluation != null ? this.exceptionTracker : this.exceptionTracker.createChild(name);
+    }
+
     /**
      * Converts the current checker instance to a {@link Checker} of the same type.
      *
@@ -702,6 +1011,7 @@ public abstract class AbstractChecker<T, C extends AbstractChecker<T,C>> impleme
         checker.exceptionTracker = this.exceptionTracker;
         checker.saveErrors = this.saveErrors;
         checker.stop = this.stop;
+        checker.evaluation = this.evaluation;
         return checker;
     }
 
@@ -0,0 +1,393 @@
+package com.luchersol.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AggregatingExceptionTracker is an {@link ExceptionTracker} that groups identical checks
+ * instead of storing each of them, so that its memory grows with the number of distinct kinds
+ * of violations rather than with the number of violations.
+ *
+ * <p>
+ * Two checks belong to the same group when they have the same subject name, the same message
+ * code and the same arguments signature. In the signature, strings, numbers, booleans,
+ * characters and enum constants are compared by value, and any other argument only by its
+ * class, so that groups never hash or retain large arguments such as the checked collections.
+ * Every group keeps its number of checks and a reservoir of up to a fixed number of exemplar
+ * messages, uniformly sampled among its checks.
+ *
+ * <p>
+ * The maps of exceptions only contain the exemplars; the counts of the tracker and of every
+ * group are exact.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * AggregatingExceptionTracker tracker = AggregatingExceptionTracker.empty("rows");
+ * for (Row row : rows) {
+ *     CheckerRow.check(row, "row").setExceptionTracker(tracker).saveErrors()...;
+ * }
+ * tracker.getWorstOffenders(10).forEach(System.out::println);
+ * }</pre>
+ */
+public class AggregatingExceptionTracker extends ExceptionTracker {
+
+    /**
+     * Default number of exemplars kept by each group.
+     */
+    public static final int DEFAULT_EXEMPLARS = 3;
+
+    /**
+     * A group of identical checks.
+     *
+     * @param subject   the name of the checked object or property
+     * @param code      the message code, negated for failed and not checked checks, or null for literal messages
+     * @param count     the number of checks in the group
+     * @param exemplars the sampled messages of the group
+     */
+    public record Group(String subject, String code, long count, List<Message> exemplars) {}
+
+    private final int exemplarLimit;
+
+    private final Table thrownExceptions = new Table();
+    private final Table passedChecks = new Table();
+    private final Table notCheckedExceptions = new Table();
+
+    /**
+     * Constructs an AggregatingExceptionTracker for the given name, keeping
+     * {@link #DEFAULT_EXEMPLARS} exemplars per group.
+     *
+     * @param name the name associated with this tracker
+     */
+    public AggregatingExceptionTracker(String name) {
+        this(name, DEFAULT_EXEMPLARS);
+    }
+
+    /**
+     * Constructs an AggregatingExceptionTracker for the given name.
+     *
+     * @param name          the name associated with this tracker
+     * @param exemplarLimit the maximum number of exemplars kept by each group, possibly 0
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public AggregatingExceptionTracker(String name, int exemplarLimit) {
+        super(name);
+        if (exemplarLimit < 0) {
+            throw new IllegalArgumentException("exemplarLimit must not be negative: " + exemplarLimit);
+        }
+        this.exemplarLimit = exemplarLimit;
+    }
+
+    /**
+     * Creates an empty AggregatingExceptionTracker for the given name.
+     *
+     * @param name the name associated with this tracker
+     * @return a new AggregatingExceptionTracker instance
+     */
+    public static AggregatingExceptionTracker empty(String name) {
+        return new AggregatingExceptionTracker(name);
+    }
+
+    /**
+     * Creates an empty AggregatingExceptionTracker with the exemplar limit of this one.
+     *
+     * @param name the name associated with the new tracker
+     * @return a new empty AggregatingExceptionTracker
+     */
+    @Override
+    public ExceptionTracker createChild(String name) {
+        AggregatingExceptionTracker child = new AggregatingExceptionTracker(name, this.exemplarLimit);
+        inheritInto(child);
+        return child;
+    }
+
+    /**
+     * Counts a thrown exception in its group under the name of this tracker.
+     *
+     * @param e the exception that was thrown
+     */
+    @Override
+    protected void recordThrownException(CheckerException e) {
+        this.thrownExceptions.add(getName(), e.getCheckerMessage(), 1, this.exemplarLimit);
+    }
+
+    /**
+     * Counts a passed check in its group under the name of this tracker.
+     *
+     * @param e the exception that was expected but not thrown
+     */
+    @Override
+    protected void recordPassedCheck(CheckerException e) {
+        this.passedChecks.add(getName(), e.getCheckerMessage(), 1, this.exemplarLimit);
+    }
+
+    /**
+     * Counts a not checked exception in its group under the name of this tracker.
+     *
+     * @param e the exception that was not checked
+     */
+    @Override
+    protected void recordNotCheckedException(CheckerException e) {
+        this.notCheckedExceptions.add(getName(), e.getCheckerMessage(), 1, this.exemplarLimit);
+    }
+
+    /**
+     * Adds the groups of another tracker under its name. Aggregating trackers are merged group
+     * by group; other trackers are read through their maps.
+     *
+     * @param exceptionTracker the ExceptionTracker to merge from
+     */
+    @Override
+    protected void mergeRecords(ExceptionTracker exceptionTracker) {
+        String subject = exceptionTracker.getName();
+        if (exceptionTracker instanceof AggregatingExceptionTracker aggregating) {
+            this.thrownExceptions.addAll(subject, aggregating.thrownExceptions, this.exemplarLimit);
+            this.passedChecks.addAll(subject, aggregating.passedChecks, this.exemplarLimit);
+            this.notCheckedExceptions.addAll(subject, aggregating.notCheckedExceptions, this.exemplarLimit);
+        } else {
+            addAll(this.thrownExceptions, subject, exceptionTracker.getThrownExceptions());
+            addAll(this.passedChecks, subject, exceptionTracker.getPassedChecks());
+            addAll(this.notCheckedExceptions, subject, exceptionTracker.getNotCheckedExceptions());
+        }
+    }
+
+    private void addAll(Table table, String subject, Map<String, Set<CheckerException>> exceptions) {
+        for (Set<CheckerException> set : exceptions.values()) {
+            for (CheckerException e : set) {
+                table.add(subject, e.getCheckerMessage(), 1, this.exemplarLimit);
+            }
+        }
+    }
+
+    @Override
+    void reset(String name) {
+        super.reset(name);
+        this.thrownExceptions.groups.clear();
+        this.passedChecks.groups.clear();
+        this.notCheckedExceptions.groups.clear();
+    }
+
+    /**
+     * Rebuilds the map of the exemplars of the thrown exceptions, categorized by name.
+     *
+     * @return a new map of thrown exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getThrownExceptions() {
+        return this.thrownExceptions.expand(getName());
+    }
+
+    /**
+     * Rebuilds the map of the exemplars of the passed checks, categorized by name.
+     *
+     * @return a new map of not thrown exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getPassedChecks() {
+        return this.passedChecks.expand(getName());
+    }
+
+    /**
+     * Rebuilds the map of the exemplars of the not checked exceptions, categorized by name.
+     *
+     * @return a new map of not checked exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getNotCheckedExceptions() {
+        return this.notCheckedExceptions.expand(getName());
+    }
+
+    /**
+     * Returns the groups of checks with the given outcome, from the largest to the smallest,
+     * groups of the same size keeping the order in which they were first seen.
+     *
+     * @param outcome the outcome of the checks
+     * @return a new list of groups
+     */
+    public List<Group> getGroups(ValidationReport.Outcome outcome) {
+        Table table = switch (outcome) {
+            case FAILED -> this.thrownExceptions;
+            case PASSED -> this.passedChecks;
+            case NOT_CHECKED -> this.notCheckedExceptions;
+        };
+        List<Group> groups = new ArrayList<>(table.groups.size());
+        for (Aggregate aggregate : table.groups.values()) {
+            groups.add(aggregate.toGroup());
+        }
+        groups.sort(Comparator.comparingLong(Group::count).reversed());
+        return groups;
+    }
+
+    /**
+     * Returns the largest groups of thrown exceptions.
+     *
+     * @param limit the maximum number of groups
+     * @return a new list of at most {@code limit} groups, from the largest
+     */
+    public List<Group> getWorstOffenders(int limit) {
+        List<Group> groups = getGroups(ValidationReport.Outcome.FAILED);
+        return groups.size() <= limit ? groups : new ArrayList<>(groups.subList(0, limit));
+    }
+
+    /**
+     * Returns the number of groups stored in this tracker, across all categories.
+     *
+     * @return the number of groups
+     */
+    public int size() {
+        return this.thrownExceptions.groups.size() + this.passedChecks.groups.size() + this.notCheckedExceptions.groups.size();
+    }
+
+    /**
+     * Identity of a group: subject, code or literal text, negation and arguments signature.
+     */
+    private static final class Key {
+
+        private final String subject;
+        private final String code;
+        private final boolean literal;
+        private final Object[] signature;
+        private final int hash;
+
+        Key(String subject, Message message) {
+            String code = message.getCode();
+            this.subject = subject;
+            this.literal = code == null;
+            this.code = this.literal ? String.valueOf(message.getMessage()) : code;
+            this.signature = signature(message.getArgs());
+            this.hash = 31 * (31 * subject.hashCode() + this.code.hashCode()) + Arrays.hashCode(this.signature);
+        }
+
+        private Key(String subject, Key key) {
+            this.subject = subject;
+            this.code = key.code;
+            this.literal = key.literal;
+            this.signature = key.signature;
+            this.hash = 31 * (31 * subject.hashCode() + this.code.hashCode()) + Arrays.hashCode(this.signature);
+        }
+
+        private static Object[] signature(Object[] args) {
+            if (args == null || args.length == 0) {
+                return args;
+            }
+            Object[] signature = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                signature[i] = arg == null || arg instanceof String || arg instanceof Number || arg instanceof Boolean
+                        || arg instanceof Character || arg instanceof Enum<?> ? arg : arg.getClass();
+            }
+            return signature;
+        }
+
+        Key withSubject(String subject) {
+            return subject.equals(this.subject) ? this : new Key(subject, this);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other && this.hash == other.hash && this.literal == other.literal
+                    && this.subject.equals(other.subject) && this.code.equals(other.code)
+                    && Arrays.equals(this.signature, other.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * Count and exemplars of a group.
+     */
+    private static final class Aggregate {
+
+        private final Key key;
+        private long count;
+        private final List<Message> exemplars = new ArrayList<>(1);
+
+        Aggregate(Key key) {
+            this.key = key;
+        }
+
+        /**
+         * Counts {@code occurrences} checks represented by the given exemplar, keeping it with the
+         * probability of being sampled among all the checks of the group.
+         */
+        void add(Message exemplar, long occurrences, int limit) {
+            this.count += occurrences;
+            if (this.exemplars.size() < limit) {
+                this.exemplars.add(exemplar);
+            } else if (limit > 0) {
+                long slot = ThreadLocalRandom.current().nextLong(this.count);
+                if (slot < (long) limit * occurrences) {
+                    this.exemplars.set((int) (slot % limit), exemplar);
+                }
+            }
+        }
+
+        Group toGroup() {
+            String code = this.key.literal ? null : this.key.code;
+            return new Group(this.key.subject, code, this.count, Collections.unmodifiableList(new ArrayList<>(this.exemplars)));
+        }
+
+    }
+
+    /**
+     * The groups of one category, in the order in which they were first seen.
+     */
+    private static final class Table {
+
+        private final Map<Key, Aggregate> groups = new LinkedHashMap<>();
+
+        void add(String subject, Message message, long occurrences, int limit) {
+            add(new Key(subject, message), message, occurrences, limit);
+        }
+
+        private void add(Key key, Message message, long occurrences, int limit) {
+            Aggregate aggregate = this.groups.get(key);
+            if (aggregate == null) {
+                aggregate = new Aggregate(key);
+                this.groups.put(key, aggregate);
+            }
+            aggregate.add(message, occurrences, limit);
+        }
+
+        void addAll(String subject, Table other, int limit) {
+            for (Aggregate aggregate : other.groups.values()) {
+                Key key = aggregate.key.withSubject(subject);
+                List<Message> exemplars = aggregate.exemplars;
+                if (exemplars.isEmpty()) {
+                    this.groups.computeIfAbsent(key, Aggregate::new).count += aggregate.count;
+                    continue;
+                }
+                long share = aggregate.count / exemplars.size();
+                for (int i = 0; i < exemplars.size(); i++) {
+                    long occurrences = i == 0 ? aggregate.count - share * (exemplars.size() - 1) : share;
+                    add(key, exemplars.get(i), occurrences, limit);
+                }
+            }
+        }
+
+        Map<String, Set<CheckerException>> expand(String name) {
+            Map<String, Set<CheckerException>> exceptions = new LinkedHashMap<>();
+            exceptions.put(name, new LinkedHashSet<>());
+            for (Aggregate aggregate : this.groups.values()) {
+                Set<CheckerException> set = exceptions.computeIfAbsent(aggregate.key.subject, k -> new LinkedHashSet<>());
+                for (Message exemplar : aggregate.exemplars) {
+                    set.add(new CheckerException(exemplar));
+                }
+            }
+            return exceptions;
+        }
+
+    }
+
+}
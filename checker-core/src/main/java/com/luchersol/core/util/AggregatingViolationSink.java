@@ -0,0 +1,77 @@
+package com.luchersol.core.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ViolationSink} keeping in memory the number of violations by subject and message
+ * code, which can be read from any thread while the pipeline runs. Violations with a literal
+ * message are counted under {@link CheckMetrics#LITERAL_CODE}.
+ */
+public final class AggregatingViolationSink implements ViolationSink {
+
+    private final Map<String, Map<String, LongAdder>> counts = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Creates an empty sink.
+     */
+    public AggregatingViolationSink() {
+    }
+
+    @Override
+    public void accept(Violation violation) {
+        String code = violation.code();
+        this.counts.computeIfAbsent(violation.subject(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code == null ? CheckMetrics.LITERAL_CODE : code, key -> new LongAdder())
+                .increment();
+        this.total.increment();
+    }
+
+    /**
+     * Returns the number of violations of the given subject and code.
+     *
+     * @param subject the name of the checked object or property
+     * @param code    the negated message code
+     * @return the number of violations
+     */
+    public long getCount(String subject, String code) {
+        LongAdder count = this.counts.getOrDefault(subject, Map.of()).get(code);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Returns the number of violations by subject and code, sorted.
+     *
+     * @return a new map of counts by code, by subject
+     */
+    public Map<String, Map<String, Long>> getCounts() {
+        Map<String, Map<String, Long>> snapshot = new TreeMap<>();
+        this.counts.forEach((subject, byCode) -> {
+            Map<String, Long> codes = new TreeMap<>();
+            byCode.forEach((code, count) -> codes.put(code, count.sum()));
+            snapshot.put(subject, codes);
+        });
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of violations received.
+     *
+     * @return the total number of violations
+     */
+    public long getTotal() {
+        return this.total.sum();
+    }
+
+    /**
+     * Forgets the violations received so far.
+     */
+    public void reset() {
+        this.counts.clear();
+        this.total.reset();
+    }
+
+}
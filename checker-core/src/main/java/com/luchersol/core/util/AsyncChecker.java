@@ -0,0 +1,157 @@
+package com.luchersol.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous facade over the checkers, for callers that must never block on validation.
+ *
+ * <p>
+ * Checks are registered in independent groups. {@link #validate()} runs every group
+ * concurrently on the configured executor, each one with its own checker saving its errors,
+ * and completes with a single {@link ValidationResult} whose groups appear in registration
+ * order. Expensive checks (matrix decompositions, graph traversals, file reads) therefore
+ * never run on the calling thread.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * Checker.checkAsync(order, "order")
+ *     .executor(validationPool)
+ *     .check(checker -> checker.isNonNull())
+ *     .check(Order::getItems, "items", checker -> checker.isList().isNotEmpty())
+ *     .check(CheckerMatrix::check, checker -> checker.isInvertible())
+ *     .validate()
+ *     .thenAccept(result -> respond(result.isValid()));
+ * }</pre>
+ *
+ * <p>An AsyncChecker is a builder and is not thread-safe; the groups themselves run in parallel.
+ *
+ * @param <T> the type of the validated object
+ */
+public final class AsyncChecker<T> {
+
+    private final T object;
+    private final String name;
+    private final List<Supplier<ExceptionTracker>> groups = new ArrayList<>();
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private AsyncChecker(T object, String name) {
+        this.object = object;
+        this.name = name;
+    }
+
+    /**
+     * Creates an asynchronous checker for the given object.
+     *
+     * @param <T>    the type of the object
+     * @param object the object to validate
+     * @param name   the name of the object
+     * @return a new AsyncChecker
+     */
+    public static <T> AsyncChecker<T> of(T object, String name) {
+        return new AsyncChecker<>(object, name);
+    }
+
+    /**
+     * Sets the executor that runs the groups of checks. Defaults to the common pool.
+     *
+     * @param executor the executor
+     * @return this AsyncChecker
+     */
+    public AsyncChecker<T> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Adds a group of checks on the object.
+     *
+     * @param checks the checks, applied to a {@link Checker} of the object
+     * @return this AsyncChecker
+     */
+    public AsyncChecker<T> check(Consumer<Checker<T>> checks) {
+        return check(Checker::check, checks);
+    }
+
+    /**
+     * Adds a group of checks on the object with a specialized checker.
+     *
+     * @param <C>     the type of the checker
+     * @param factory the factory of the checker, usually its {@code check(object, name)} method
+     * @param checks  the checks, applied to the checker
+     * @return this AsyncChecker
+     */
+    public <C extends AbstractChecker<T, C>> AsyncChecker<T> check(BiFunction<T, String, C> factory, Consumer<C> checks) {
+        T object = this.object;
+        String name = this.name;
+        this.groups.add(() -> {
+            C checker = factory.apply(object, name).saveErrors();
+            checks.accept(checker);
+            return checker.exceptionTracker;
+        });
+        return this;
+    }
+
+    /**
+     * Adds a group of checks on a property of the object.
+     *
+     * @param <R>          the type of the property
+     * @param extractor    the function reading the property
+     * @param propertyName the name of the property
+     * @param checks       the checks, applied to a {@link Checker} of the property
+     * @return this AsyncChecker
+     */
+    public <R> AsyncChecker<T> check(Function<? super T, ? extends R> extractor, String propertyName, Consumer<Checker<R>> checks) {
+        T object = this.object;
+        String name = this.name + "." + propertyName;
+        this.groups.add(() -> {
+            Checker<R> checker = Checker.<R>check(object == null ? null : extractor.apply(object), name).saveErrors();
+            checks.accept(checker);
+            return checker.exceptionTracker;
+        });
+        return this;
+    }
+
+    /**
+     * Runs every group of checks concurrently.
+     *
+     * @return a future completed with the result of all the groups
+     */
+    public CompletableFuture<ValidationResult> validate() {
+        List<CompletableFuture<ExceptionTracker>> futures = new ArrayList<>(this.groups.size());
+        for (Supplier<ExceptionTracker> group : this.groups) {
+            futures.add(CompletableFuture.supplyAsync(() -> run(group), this.executor));
+        }
+
+        String name = this.name;
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            ExceptionTracker exceptionTracker = ExceptionTracker.empty(name);
+            futures.forEach(future -> exceptionTracker.merge(future.join()));
+            return ValidationResult.of(exceptionTracker);
+        });
+    }
+
+    /**
+     * Runs a group, recording as a thrown exception anything the checks throw.
+     *
+     * @param group the group of checks
+     * @return the tracker of the group
+     */
+    private ExceptionTracker run(Supplier<ExceptionTracker> group) {
+        try {
+            return group.get();
+        } catch (Exception e) {
+            ExceptionTracker exceptionTracker = ExceptionTracker.empty(this.name);
+            exceptionTracker.addThrownException(e);
+            return exceptionTracker;
+        }
+    }
+
+}
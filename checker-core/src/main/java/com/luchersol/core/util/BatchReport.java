@@ -0,0 +1,181 @@
+package com.luchersol.core.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The aggregated result of validating a batch of elements with a {@link BatchValidator}.
+ *
+ * <p>
+ * Only the elements that failed are kept, each one with its index in the batch and the
+ * exception tracker of its checks, in index order. Elements that passed are only counted, as
+ * are the failed elements beyond the maximum number of recorded failures of the validator,
+ * which keeps the ones with the lowest indices.
+ *
+ * <p>
+ * When the batch was sampled, the failures are those of the sampled elements, and the
+ * estimated counts extrapolate them to the whole batch.
+ */
+public final class BatchReport {
+
+    /**
+     * A failed element of the batch.
+     *
+     * @param index            the index of the element in the batch
+     * @param exceptionTracker the checks of the element, named {@code name[index]}
+     */
+    public record Failure(long index, ExceptionTracker exceptionTracker) {
+    }
+
+    private final String name;
+    private final long total;
+    private final List<Failure> failures;
+    private final long failed;
+    private final long sampled;
+    private final double estimatedFailed;
+
+    BatchReport(String name, long total, List<Failure> failures, long failed) {
+        this(name, total, failures, failed, total, failed);
+    }
+
+    BatchReport(String name, long total, List<Failure> failures, long failed, long sampled, double estimatedFailed) {
+        this.name = name;
+        this.total = total;
+        this.failures = Collections.unmodifiableList(failures);
+        this.failed = failed;
+        this.sampled = sampled;
+        this.estimatedFailed = estimatedFailed;
+    }
+
+    /**
+     * Returns the name of the batch.
+     *
+     * @return the name of the batch
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of validated elements.
+     *
+     * @return the number of elements
+     */
+    public long getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Returns the number of elements that were checked, which is the total unless the batch
+     * was sampled.
+     *
+     * @return the number of checked elements
+     */
+    public long getSampledCount() {
+        return this.sampled;
+    }
+
+    /**
+     * Returns whether only some of the elements were checked.
+     *
+     * @return true if the batch was sampled
+     */
+    public boolean isSampled() {
+        return this.sampled < this.total;
+    }
+
+    /**
+     * Returns the estimated number of elements of the batch that would fail, extrapolated from
+     * the sampled ones. Without sampling it is the number of failed elements.
+     *
+     * @return the estimated number of failed elements
+     */
+    public double getEstimatedFailedCount() {
+        return Math.min(this.estimatedFailed, this.total);
+    }
+
+    /**
+     * Returns the estimated fraction of the elements of the batch that would fail.
+     *
+     * @return the estimated failure rate, or 0 for an empty batch
+     */
+    public double getEstimatedFailureRate() {
+        return this.total == 0 ? 0 : getEstimatedFailedCount() / this.total;
+    }
+
+    /**
+     * Returns the estimated fraction of the elements of the batch that would pass.
+     *
+     * @return the estimated pass rate, or 0 for an empty batch
+     */
+    public double getEstimatedPassRate() {
+        return this.total == 0 ? 0 : 1 - getEstimatedFailureRate();
+    }
+
+    /**
+     * Returns the number of checked elements with at least one failed check, including those
+     * that were not recorded.
+     *
+     * @return the number of failed elements
+     */
+    public long getFailedCount() {
+        return this.failed;
+    }
+
+    /**
+     * Returns the recorded failed elements, in index order.
+     *
+     * @return an unmodifiable list of failures
+     */
+    public List<Failure> getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * Returns whether some failed elements were only counted, the maximum number of recorded
+     * failures having been reached.
+     *
+     * @return true if not every failed element is in {@link #getFailures()}
+     */
+    public boolean isTruncated() {
+        return this.failures.size() < this.failed;
+    }
+
+    /**
+     * Returns whether any element failed.
+     *
+     * @return true if at least one element failed
+     */
+    public boolean hasErrors() {
+        return this.failed > 0;
+    }
+
+    /**
+     * Returns whether every element passed.
+     *
+     * @return true if no element failed
+     */
+    public boolean hasNotErrors() {
+        return this.failed == 0;
+    }
+
+    /**
+     * Returns an exception tracker named after the batch, holding the checks of every failed
+     * element under {@code name[index]}.
+     *
+     * @return a new ExceptionTracker
+     */
+    public ExceptionTracker toExceptionTracker() {
+        ExceptionTracker exceptionTracker = ExceptionTracker.empty(this.name);
+        this.failures.forEach(failure -> exceptionTracker.merge(failure.exceptionTracker()));
+        return exceptionTracker;
+    }
+
+    /**
+     * Prints the failed checks of the batch to the console.
+     */
+    public void show() {
+        toExceptionTracker().showThrownException();
+    }
+
+}
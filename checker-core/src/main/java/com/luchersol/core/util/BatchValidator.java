@@ -0,0 +1,430 @@
+package com.luchersol.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.luchersol.core.util.BatchReport.Failure;
+
+/**
+ * Validates batches of elements in parallel with a {@link CheckerSpec}, producing one
+ * {@link BatchReport} with the index of every failed element.
+ *
+ * <p>
+ * The batch is split into chunks that run on a work-stealing {@link ForkJoinPool}. Lists
+ * with random access and arrays are split by index range; other collections and spliterators
+ * are read in chunks by the calling thread, with a bounded number of chunks in flight.
+ *
+ * <p>
+ * Each element is first checked without recording anything, so passing elements allocate
+ * neither checkers nor trackers. A failed element is checked again into its own tracker,
+ * named {@code name[index]}, at the configured tracking level. Only the
+ * {@link #setMaxRecordedFailures(int) failures with the lowest indices} are recorded this way,
+ * whatever the order in which the tasks run; the others are only counted, so a batch with
+ * many failures keeps a bounded report.
+ *
+ * <p>
+ * With a {@link SamplingPolicy}, only the sampled elements are checked, and the report
+ * extrapolates their failures to the whole batch.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * BatchReport report = BatchValidator.of(ROW_SPEC)
+ *     .setParallelism(16)
+ *     .setChunkSize(4096)
+ *     .validate(rows, "rows");
+ * report.show();
+ * }</pre>
+ *
+ * @param <T> the type of the validated elements
+ * @param <C> the type of the checker of the plan
+ */
+public final class BatchValidator<T, C extends AbstractChecker<T, C>> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    /**
+     * Default number of failed elements recorded with their tracker.
+     */
+    public static final int DEFAULT_MAX_RECORDED_FAILURES = 10_000;
+
+    private final CheckerSpec<T, C> spec;
+
+    /**
+     * Number of worker threads, or 0 to use the common pool.
+     */
+    private int parallelism;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private ExceptionTracker.TrackingLevel trackingLevel = ExceptionTracker.TrackingLevel.FAILURES;
+
+    private long violationBudget = ExceptionTracker.UNLIMITED_BUDGET;
+
+    private SamplingPolicy samplingPolicy;
+
+    private int maxRecordedFailures = DEFAULT_MAX_RECORDED_FAILURES;
+
+    private BatchValidator(CheckerSpec<T, C> spec) {
+        this.spec = spec;
+    }
+
+    /**
+     * Creates a validator for the given plan, running on the common pool.
+     *
+     * @param <T>  the type of the validated elements
+     * @param <C>  the type of the checker of the plan
+     * @param spec the plan applied to every element
+     * @return a new BatchValidator
+     */
+    public static <T, C extends AbstractChecker<T, C>> BatchValidator<T, C> of(CheckerSpec<T, C> spec) {
+        return new BatchValidator<>(spec);
+    }
+
+    /**
+     * Sets the number of worker threads. A dedicated pool is created for each batch.
+     *
+     * @param parallelism the number of worker threads, or 0 to use the common pool
+     * @return this validator
+     */
+    public BatchValidator<T, C> setParallelism(int parallelism) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("parallelism must not be negative: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of elements validated by one task.
+     *
+     * @param chunkSize the number of elements per task
+     * @return this validator
+     */
+    public BatchValidator<T, C> setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Sets the level of detail kept for failed elements. Defaults to
+     * {@link ExceptionTracker.TrackingLevel#FAILURES}.
+     *
+     * @param trackingLevel the tracking level of the tracker of each failed element
+     * @return this validator
+     */
+    public BatchValidator<T, C> setTrackingLevel(ExceptionTracker.TrackingLevel trackingLevel) {
+        this.trackingLevel = trackingLevel;
+        return this;
+    }
+
+    /**
+     * Sets the number of failed checks recorded for a failed element, after which its
+     * remaining checks are recorded as not checked without running them. Unlimited by default.
+     *
+     * @param violationBudget the maximum number of failed checks per element
+     * @return this validator
+     */
+    public BatchValidator<T, C> setViolationBudget(long violationBudget) {
+        if (violationBudget < 1) {
+            throw new IllegalArgumentException("violationBudget must be positive: " + violationBudget);
+        }
+        this.violationBudget = violationBudget;
+        return this;
+    }
+
+    /**
+     * Sets the policy deciding which elements are checked. The policy may be shared with other
+     * validators and hot paths, its rate then adapting to their combined load. By default
+     * every element is checked.
+     *
+     * @param samplingPolicy the sampling policy, or null to check every element
+     * @return this validator
+     */
+    public BatchValidator<T, C> setSamplingPolicy(SamplingPolicy samplingPolicy) {
+        this.samplingPolicy = samplingPolicy;
+        return this;
+    }
+
+    /**
+     * Sets the number of failed elements recorded with their tracker: the ones with the lowest
+     * indices, so the same batch always records the same elements. Other failed elements are
+     * counted in {@link BatchReport#getFailedCount()} without being recorded. Defaults to
+     * {@link #DEFAULT_MAX_RECORDED_FAILURES}.
+     *
+     * @param maxRecordedFailures the maximum number of recorded failures, 0 to only count them
+     * @return this validator
+     */
+    public BatchValidator<T, C> setMaxRecordedFailures(int maxRecordedFailures) {
+        if (maxRecordedFailures < 0) {
+            throw new IllegalArgumentException("maxRecordedFailures must not be negative: " + maxRecordedFailures);
+        }
+        this.maxRecordedFailures = maxRecordedFailures;
+        return this;
+    }
+
+    /**
+     * Validates every element of the given collection.
+     *
+     * @param elements the elements to validate
+     * @param name     the name of the batch
+     * @return the aggregated report
+     */
+    public BatchReport validate(Collection<? extends T> elements, String name) {
+        if (elements instanceof List<? extends T> list && elements instanceof RandomAccess) {
+            Batch batch = new Batch(name, this.samplingPolicy);
+            return run(pool -> report(batch, list.size(), pool.invoke(new RangeTask(list, 0, list.size(), batch))));
+        }
+        return validate(elements.spliterator(), name);
+    }
+
+    /**
+     * Validates every element of the given array.
+     *
+     * @param elements the elements to validate
+     * @param name     the name of the batch
+     * @return the aggregated report
+     */
+    public BatchReport validate(T[] elements, String name) {
+        return validate(Arrays.asList(elements), name);
+    }
+
+    /**
+     * Validates every element of the given spliterator, reading it in chunks from the calling thread.
+     *
+     * @param elements the elements to validate
+     * @param name     the name of the batch
+     * @return the aggregated report
+     */
+    public BatchReport validate(Spliterator<? extends T> elements, String name) {
+        Batch batch = new Batch(name, this.samplingPolicy);
+        return run(pool -> {
+            Semaphore inFlight = new Semaphore(2 * pool.getParallelism());
+            List<ForkJoinTask<List<Failure>>> tasks = new ArrayList<>();
+            long offset = 0;
+            while (true) {
+                List<T> chunk = new ArrayList<>(this.chunkSize);
+                boolean more = true;
+                while (more && chunk.size() < this.chunkSize) {
+                    more = elements.tryAdvance(chunk::add);
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                inFlight.acquireUninterruptibly();
+                tasks.add(pool.submit(new ChunkTask(chunk, offset, batch, inFlight)));
+                offset += chunk.size();
+            }
+
+            List<Failure> failures = new ArrayList<>();
+            for (ForkJoinTask<List<Failure>> task : tasks) {
+                failures.addAll(task.join());
+                truncate(failures);
+            }
+            return report(batch, offset, failures);
+        });
+    }
+
+    private static BatchReport report(Batch batch, long total, List<Failure> failures) {
+        long failed = batch.failed.sum();
+        if (batch.policy == null) {
+            return new BatchReport(batch.name, total, failures, failed);
+        }
+        return new BatchReport(batch.name, total, failures, failed, batch.sampled.sum(), batch.estimatedFailed.sum());
+    }
+
+    /**
+     * Runs the validation on the configured pool, shutting it down afterwards if it is dedicated.
+     *
+     * @param validation the validation to run
+     * @return the report of the validation
+     */
+    private BatchReport run(Function<ForkJoinPool, BatchReport> validation) {
+        if (this.parallelism == 0) {
+            return validation.apply(ForkJoinPool.commonPool());
+        }
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            return validation.apply(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Keeps only the recorded failures with the lowest indices.
+     *
+     * @param failures failures in index order
+     */
+    private void truncate(List<Failure> failures) {
+        if (failures.size() > this.maxRecordedFailures) {
+            failures.subList(this.maxRecordedFailures, failures.size()).clear();
+        }
+    }
+
+    /**
+     * Validates one element, adding it to the failures if any check fails and it may be among
+     * the failures with the lowest indices. A task that records the maximum number of failures
+     * lowers the cutoff of the batch to its last index, since no later index can be among them.
+     *
+     * @param element  the element
+     * @param index    the index of the element in the batch
+     * @param batch    the state of the batch
+     * @param failures the failures of the current task, in index order
+     */
+    private void validate(T element, long index, Batch batch, List<Failure> failures) {
+        if (batch.policy == null) {
+            if (this.spec.test(element)) {
+                return;
+            }
+        } else {
+            double rate = batch.policy.admit();
+            if (rate == 0) {
+                return;
+            }
+            long start = System.nanoTime();
+            boolean passed = this.spec.test(element);
+            batch.policy.record(rate, passed, System.nanoTime() - start);
+            batch.sampled.increment();
+            if (passed) {
+                return;
+            }
+            batch.estimatedFailed.add(1 / rate);
+        }
+        batch.failed.increment();
+        if (failures.size() >= this.maxRecordedFailures || index > batch.cutoff.get()) {
+            return;
+        }
+        String elementName = batch.name + "[" + index + "]";
+        ExceptionTracker exceptionTracker = ExceptionTracker.empty(elementName);
+        exceptionTracker.setTrackingLevel(this.trackingLevel);
+        if (this.violationBudget != ExceptionTracker.UNLIMITED_BUDGET) {
+            exceptionTracker.setViolationBudget(this.violationBudget);
+        }
+        this.spec.check(element, elementName, exceptionTracker);
+        failures.add(new Failure(index, exceptionTracker));
+        if (failures.size() == this.maxRecordedFailures) {
+            batch.cutoff.accumulateAndGet(index, Math::min);
+        }
+    }
+
+    /**
+     * Validates a range of a random access list, splitting it in halves down to the chunk size.
+     */
+    @SuppressWarnings("serial") // Never serialized: it only runs on the pool of its batch
+    private final class RangeTask extends RecursiveTask<List<Failure>> {
+
+        private final List<? extends T> elements;
+        private final int from;
+        private final int to;
+        private final Batch batch;
+
+        private RangeTask(List<? extends T> elements, int from, int to, Batch batch) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.batch = batch;
+        }
+
+        @Override
+        protected List<Failure> compute() {
+            if (this.to - this.from <= BatchValidator.this.chunkSize) {
+                List<Failure> failures = new ArrayList<>();
+                for (int i = this.from; i < this.to; i++) {
+                    validate(this.elements.get(i), i, this.batch, failures);
+                }
+                return failures;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            RangeTask left = new RangeTask(this.elements, this.from, middle, this.batch);
+            left.fork();
+            List<Failure> right = new RangeTask(this.elements, middle, this.to, this.batch).compute();
+            List<Failure> failures = left.join();
+            if (failures.isEmpty()) {
+                return right;
+            }
+            failures.addAll(right);
+            truncate(failures);
+            return failures;
+        }
+
+    }
+
+    /**
+     * Validates a chunk read from a spliterator. The chunk is dropped once validated, so that
+     * only the failures of completed tasks are kept until the batch ends.
+     */
+    @SuppressWarnings("serial") // Never serialized: it only runs on the pool of its batch
+    private final class ChunkTask extends RecursiveTask<List<Failure>> {
+
+        private List<? extends T> elements;
+        private final long offset;
+        private final Batch batch;
+        private final Semaphore inFlight;
+
+        private ChunkTask(List<? extends T> elements, long offset, Batch batch, Semaphore inFlight) {
+            this.elements = elements;
+            this.offset = offset;
+            this.batch = batch;
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        protected List<Failure> compute() {
+            try {
+                List<Failure> failures = new ArrayList<>();
+                for (int i = 0; i < this.elements.size(); i++) {
+                    validate(this.elements.get(i), this.offset + i, this.batch, failures);
+                }
+                return failures;
+            } finally {
+                this.elements = null;
+                this.inFlight.release();
+            }
+        }
+
+    }
+
+    /**
+     * The state of one batch shared by its tasks: its failed and sampled elements, and the
+     * highest index that may still be recorded.
+     */
+    private static final class Batch {
+
+        private final String name;
+        private final SamplingPolicy policy;
+        private final LongAdder failed = new LongAdder();
+        private final AtomicLong cutoff = new AtomicLong(Long.MAX_VALUE);
+        private final LongAdder sampled = new LongAdder();
+        private final DoubleAdder estimatedFailed = new DoubleAdder();
+
+        /**
+         * Creates the state of a batch.
+         *
+         * @param name   the name of the batch
+         * @param policy the sampling policy, or null to check every element
+         */
+        private Batch(String name, SamplingPolicy policy) {
+            this.name = name;
+            this.policy = policy;
+        }
+
+    }
+
+}
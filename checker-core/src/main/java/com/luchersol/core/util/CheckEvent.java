@@ -0,0 +1,63 @@
+package com.luchersol.core.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for every check whose condition runs, with its duration.
+ *
+ * <p>
+ * The event is disabled by default and, once enabled, only recorded for checks slower than
+ * its threshold, 1 ms unless configured otherwise. While it is disabled, a check pays for no
+ * timing at all. Enable it in a recording or a {@code .jfc} settings file:
+ * <pre>{@code
+ * recording.enable(CheckEvent.NAME).withThreshold(Duration.ofMillis(5));
+ * }</pre>
+ */
+@Name(CheckEvent.NAME)
+@Label("Check")
+@Category("Checker")
+@Description("A check of a checker, with the time spent in its condition")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public final class CheckEvent extends Event {
+
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "com.luchersol.core.Check";
+
+    @Label("Subject")
+    @Description("Name of the checked object or property")
+    String subject;
+
+    @Label("Code")
+    @Description("Message code of the check, or null for literal messages")
+    String code;
+
+    @Label("Outcome")
+    @Description("Whether the condition held: passed or failed")
+    String outcome;
+
+    /**
+     * Fills in and commits the event, if its duration exceeds the threshold.
+     *
+     * @param subject the name of the checker
+     * @param message the message of the check
+     * @param passed  whether the condition held
+     */
+    void commit(String subject, Message message, boolean passed) {
+        this.subject = subject;
+        this.code = message.getBaseCode();
+        this.outcome = passed ? "passed" : "failed";
+        commit();
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.luchersol.core.util;
+
+/**
+ * Installs the {@link CheckListener} notified of every check.
+ *
+ * <p>
+ * Instrumentation is off by default. While no listener is installed, a check only pays for
+ * reading one field: its condition is neither timed nor reported.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * CheckMetrics metrics = CheckMetrics.install();   // also registers the JMX MBean
+ * ...
+ * metrics.getStats("collections.graph.is_connected").failureRate();
+ * CheckMetrics.uninstall();
+ * }</pre>
+ */
+public final class CheckInstrumentation {
+
+    /**
+     * The installed listener, or null when instrumentation is off.
+     */
+    static volatile CheckListener listener;
+
+    private CheckInstrumentation() {
+    }
+
+    /**
+     * Installs the listener notified of every check, replacing the previous one.
+     * Use {@link CheckListener#andThen(CheckListener)} to install several listeners.
+     *
+     * @param listener the listener, or null to switch instrumentation off
+     */
+    public static void setListener(CheckListener listener) {
+        CheckInstrumentation.listener = listener;
+    }
+
+    /**
+     * Returns the installed listener.
+     *
+     * @return the listener, or null when instrumentation is off
+     */
+    public static CheckListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Returns whether a listener is installed.
+     *
+     * @return true if checks are reported
+     */
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.luchersol.core.util;
+
+/**
+ * Receives every check run by the checkers, once installed with
+ * {@link CheckInstrumentation#setListener(CheckListener)}.
+ *
+ * <p>
+ * The listener is called on the thread running the check, right after its condition, so it
+ * must be fast and thread-safe. Checks not run, because the object is null or the violation
+ * budget is exhausted, are not reported. {@link CheckMetrics} is the default implementation.
+ */
+@FunctionalInterface
+public interface CheckListener {
+
+    /**
+     * Called after the condition of a check has been run.
+     *
+     * @param message      the message of the check, whose code identifies the rule, not yet
+     *                     formatted nor negated
+     * @param passed       whether the condition held
+     * @param elapsedNanos the time spent running the condition, in nanoseconds
+     */
+    void onCheck(Message message, boolean passed, long elapsedNanos);
+
+    /**
+     * Returns a listener calling this listener and then the given one.
+     *
+     * @param after the listener called after this one
+     * @return the composed listener
+     */
+    default CheckListener andThen(CheckListener after) {
+        return (message, passed, elapsedNanos) -> {
+            onCheck(message, passed, elapsedNanos);
+            after.onCheck(message, passed, elapsedNanos);
+        };
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.luchersol.core.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Default {@link CheckListener}, keeping for every message code (e.g.
+ * {@code collections.graph.is_connected}) the number of runs, passes and failures of the check
+ * and a histogram of the time spent in its condition.
+ *
+ * <p>
+ * Counters are {@link LongAdder}s, striped across threads, so recording never contends on a
+ * lock. Codes built from parts by {@link MessageService#sendMessage(String, String, Object...)}
+ * are looked up by their parts, without joining them. Checks with a literal message are
+ * recorded under {@link #LITERAL_CODE}.
+ *
+ * <p>
+ * Latencies are counted in power-of-two buckets: bucket {@code i} holds the runs that took
+ * less than {@code 2^i} nanoseconds and at least {@code 2^(i-1)}, so percentiles are upper
+ * bounds within a factor of two.
+ */
+public final class CheckMetrics implements CheckListener, CheckMetricsMXBean {
+
+    /**
+     * Name under which the MBean of the installed metrics is registered.
+     */
+    public static final String OBJECT_NAME = "com.luchersol.core:type=CheckMetrics";
+
+    /**
+     * Code of the checks whose message has no code.
+     */
+    public static final String LITERAL_CODE = "literal";
+
+    /**
+     * Number of latency buckets; the last one holds every run of 2^39 nanoseconds or more.
+     */
+    static final int BUCKETS = 41;
+
+    /**
+     * Statistics recorded since the last reset, replaced as a whole by {@link #reset()}.
+     */
+    private volatile Table table = new Table();
+
+    /**
+     * Statistics by code, and the same counters by the two parts of the code.
+     */
+    private static final class Table {
+        private final Map<String, Counters> byCode = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, Counters>> byParts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Snapshot of the statistics of one check.
+     *
+     * @param code             the message code of the check
+     * @param passed           the number of runs in which the check passed
+     * @param failed           the number of runs in which the check failed
+     * @param totalNanos       the total time spent in the condition
+     * @param maxNanos         the longest time spent in the condition
+     * @param latencyHistogram the number of runs in each latency bucket
+     */
+    public record Stats(String code, long passed, long failed, long totalNanos, long maxNanos, long[] latencyHistogram) {
+
+        /**
+         * Returns the number of runs of the check.
+         *
+         * @return the number of runs
+         */
+        public long invocations() {
+            return this.passed + this.failed;
+        }
+
+        /**
+         * Returns the fraction of runs in which the check failed.
+         *
+         * @return the failure rate, or 0 if the check never ran
+         */
+        public double failureRate() {
+            long invocations = invocations();
+            return invocations == 0 ? 0 : (double) this.failed / invocations;
+        }
+
+        /**
+         * Returns the mean time spent in the condition.
+         *
+         * @return the mean latency in nanoseconds, or 0 if the check never ran
+         */
+        public double meanNanos() {
+            long invocations = invocations();
+            return invocations == 0 ? 0 : (double) this.totalNanos / invocations;
+        }
+
+        /**
+         * Returns an upper bound of the given percentile of the time spent in the condition.
+         *
+         * @param percentile the percentile, between 0 and 1
+         * @return the upper bound of the bucket holding the percentile, in nanoseconds
+         */
+        public long percentileNanos(double percentile) {
+            if (percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("percentile must be between 0 and 1: " + percentile);
+            }
+            long rank = (long) Math.ceil(percentile * invocations());
+            long seen = 0;
+            for (int bucket = 0; bucket < this.latencyHistogram.length; bucket++) {
+                seen += this.latencyHistogram[bucket];
+                if (seen >= rank && seen > 0) {
+                    return bucket == BUCKETS - 1 ? this.maxNanos : 1L << bucket;
+                }
+            }
+            return 0;
+        }
+
+    }
+
+    /**
+     * Live counters of one check.
+     */
+    private static final class Counters {
+
+        private final String code;
+        private final LongAdder passed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        private Counters(String code) {
+            this.code = code;
+            for (int i = 0; i < BUCKETS; i++) {
+                this.histogram[i] = new LongAdder();
+            }
+        }
+
+        private void record(boolean passed, long elapsedNanos) {
+            (passed ? this.passed : this.failed).increment();
+            long nanos = Math.max(elapsedNanos, 0);
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+            this.histogram[Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1)].increment();
+        }
+
+        private Stats snapshot() {
+            long[] histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = this.histogram[i].sum();
+            }
+            return new Stats(this.code, this.passed.sum(), this.failed.sum(), this.totalNanos.sum(), this.maxNanos.get(), histogram);
+        }
+
+    }
+
+    /**
+     * Creates empty metrics, which collect nothing until installed as the listener.
+     */
+    public CheckMetrics() {
+    }
+
+    /**
+     * Creates metrics, installs them as the {@link CheckListener} and registers their MBean
+     * under {@link #OBJECT_NAME}, replacing the metrics previously installed this way.
+     *
+     * @return the installed metrics
+     */
+    public static CheckMetrics install() {
+        CheckMetrics metrics = new CheckMetrics();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the check metrics MBean", e);
+        }
+        CheckInstrumentation.setListener(metrics);
+        return metrics;
+    }
+
+    /**
+     * Switches instrumentation off and unregisters the MBean registered by {@link #install()}.
+     */
+    public static void uninstall() {
+        CheckInstrumentation.setListener(null);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister the check metrics MBean", e);
+        }
+    }
+
+    @Override
+    public void onCheck(Message message, boolean passed, long elapsedNanos) {
+        counters(message).record(passed, elapsedNanos);
+    }
+
+    private Counters counters(Message message) {
+        Table table = this.table;
+        String init = message.getInit();
+        String function = message.getFunction();
+        if (init != null && function != null) {
+            Map<String, Counters> byFunction = table.byParts.computeIfAbsent(init, key -> new ConcurrentHashMap<>());
+            Counters counters = byFunction.get(function);
+            return counters != null ? counters : byFunction.computeIfAbsent(function, key -> counters(table, message.getBaseCode()));
+        }
+        String code = message.getBaseCode();
+        return counters(table, code == null ? LITERAL_CODE : code);
+    }
+
+    private static Counters counters(Table table, String code) {
+        Counters counters = table.byCode.get(code);
+        return counters != null ? counters : table.byCode.computeIfAbsent(code, Counters::new);
+    }
+
+    /**
+     * Returns the statistics of the check with the given code.
+     *
+     * @param code the message code
+     * @return the statistics, or null if the check never ran
+     */
+    public Stats getStats(String code) {
+        Counters counters = this.table.byCode.get(code);
+        return counters == null ? null : counters.snapshot();
+    }
+
+    /**
+     * Returns the statistics of every check that ran, sorted by code.
+     *
+     * @return a new map of statistics by code
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> stats = new TreeMap<>();
+        this.table.byCode.forEach((code, counters) -> stats.put(code, counters.snapshot()));
+        return stats;
+    }
+
+    @Override
+    public Map<String, Long> getInvocationCounts() {
+        return collectLong(Stats::invocations);
+    }
+
+    @Override
+    public Map<String, Long> getFailureCounts() {
+        return collectLong(Stats::failed);
+    }
+
+    @Override
+    public Map<String, Double> getFailureRates() {
+        return collectDouble(Stats::failureRate);
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyNanos() {
+        return collectDouble(Stats::meanNanos);
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return collectLong(stats -> stats.percentileNanos(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyNanos() {
+        return collectLong(Stats::maxNanos);
+    }
+
+    @Override
+    public void reset() {
+        this.table = new Table();
+    }
+
+    private Map<String, Long> collectLong(ToLongFunction<Stats> metric) {
+        Map<String, Long> values = new TreeMap<>();
+        getStats().forEach((code, stats) -> values.put(code, metric.applyAsLong(stats)));
+        return values;
+    }
+
+    private Map<String, Double> collectDouble(ToDoubleFunction<Stats> metric) {
+        Map<String, Double> values = new TreeMap<>();
+        getStats().forEach((code, stats) -> values.put(code, metric.applyAsDouble(stats)));
+        return values;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.luchersol.core.util;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link CheckMetrics}, registered as
+ * {@value CheckMetrics#OBJECT_NAME}. Every map is keyed by message code.
+ */
+public interface CheckMetricsMXBean {
+
+    /**
+     * Returns the number of times each check ran.
+     *
+     * @return the invocations by code
+     */
+    Map<String, Long> getInvocationCounts();
+
+    /**
+     * Returns the number of times each check failed.
+     *
+     * @return the failures by code
+     */
+    Map<String, Long> getFailureCounts();
+
+    /**
+     * Returns the fraction of runs of each check that failed.
+     *
+     * @return the failure rates by code
+     */
+    Map<String, Double> getFailureRates();
+
+    /**
+     * Returns the mean time spent in the condition of each check.
+     *
+     * @return the mean latencies by code, in nanoseconds
+     */
+    Map<String, Double> getMeanLatencyNanos();
+
+    /**
+     * Returns an upper bound of the 99th percentile of the time spent in the condition of each check.
+     *
+     * @return the 99th percentile latencies by code, in nanoseconds
+     */
+    Map<String, Long> getP99LatencyNanos();
+
+    /**
+     * Returns the maximum time spent in the condition of each check.
+     *
+     * @return the maximum latencies by code, in nanoseconds
+     */
+    Map<String, Long> getMaxLatencyNanos();
+
+    /**
+     * Discards every metric collected so far.
+     */
+    void reset();
+
+}
@@ -122,6 +122,65 @@ public class Checker<T> extends AbstractChecker<T, Checker<T>> {
     }
 
 
+    /**
+     * Creates an {@link AsyncChecker} for the given object, whose groups of checks run
+     * concurrently and complete with a {@link ValidationResult}.
+     *
+     * @param <T>    the type of the object being checked
+     * @param object the object to check
+     * @param name   the name or label for the object
+     * @return a new {@code AsyncChecker<T>} instance
+     */
+    public static <T> AsyncChecker<T> checkAsync(T object, String name) {
+        return AsyncChecker.of(object, name);
+    }
+
+
+    /**
+     * Creates an {@link AsyncChecker} for the given object, whose groups of checks run
+     * concurrently and complete with a {@link ValidationResult}.
+     *
+     * @param <T>    the type of the object being checked
+     * @param object the object to check
+     * @return a new {@code AsyncChecker<T>} instance
+     */
+    public static <T> AsyncChecker<T> checkAsync(T object) {
+        return AsyncChecker.of(object, DEFAULT_NAME);
+    }
+
+
+    /**
+     * Validates every element of the given collection with the given plan, in parallel on the
+     * common pool. Use {@link BatchValidator} to configure the parallelism and the chunk size.
+     *
+     * @param <T>      the type of the elements
+     * @param <C>      the type of the checker of the plan
+     * @param elements the elements to validate
+     * @param name     the name of the batch, used as {@code name[index]} for failed elements
+     * @param spec     the plan applied to every element
+     * @return the aggregated report of the batch
+     */
+    public static <T, C extends AbstractChecker<T, C>> BatchReport checkAll(Collection<? extends T> elements, String name, CheckerSpec<T, C> spec) {
+        return BatchValidator.of(spec).validate(elements, name);
+    }
+
+
+    /**
+     * Validates every element of the given array with the given plan, in parallel on the
+     * common pool. Use {@link BatchValidator} to configure the parallelism and the chunk size.
+     *
+     * @param <T>      the type of the elements
+     * @param <C>      the type of the checker of the plan
+     * @param elements the elements to validate
+     * @param name     the name of the batch, used as {@code name[index]} for failed elements
+     * @param spec     the plan applied to every element
+     * @return the aggregated report of the batch
+     */
+    public static <T, C extends AbstractChecker<T, C>> BatchReport checkAll(T[] elements, String name, CheckerSpec<T, C> spec) {
+        return BatchValidator.of(spec).validate(elements, name);
+    }
+
+
     /**
      * Checks if the object is an instance of the given class.
      *
@@ -5,9 +5,25 @@ import java.util.Optional;
 /**
  * CheckerException is a custom unchecked exception used for validation and checking errors.
  * It provides factory methods and custom string representation for error reporting.
+ *
+ * <p>
+ * By default the exception does not capture a stack trace, since filling it in dominates
+ * the cost of failure-heavy validations and the message already identifies the check.
+ * The full trace can be enabled for debugging with {@link #setCaptureStackTrace(boolean)}
+ * or the {@code checker.stackTrace} system property.
  */
 public class CheckerException extends RuntimeException {
 
+    /**
+     * System property that enables stack trace capture when set to {@code true}.
+     */
+    public static final String STACK_TRACE_PROPERTY = "checker.stackTrace";
+
+    /**
+     * Whether new exceptions capture their stack trace.
+     */
+    private static volatile boolean captureStackTrace = Boolean.getBoolean(STACK_TRACE_PROPERTY);
+
     /**
      * The message associated with this exception.
      */
@@ -19,7 +35,7 @@ public class CheckerException extends RuntimeException {
      * @param message_ the detail message
      */
     protected CheckerException(Message message_) {
-        super(message_.getMessage());
+        super(null, null, true, captureStackTrace);
         this.message_ = message_;
     }
 
@@ -40,6 +56,24 @@ public class CheckerException extends RuntimeException {
     }
 
 
+    /**
+     * Enables or disables stack trace capture for exceptions created from now on.
+     *
+     * @param capture true to capture the full stack trace, false to create stackless exceptions
+     */
+    public static void setCaptureStackTrace(boolean capture) {
+        captureStackTrace = capture;
+    }
+
+    /**
+     * Returns whether new exceptions capture their stack trace.
+     *
+     * @return true if the stack trace is captured
+     */
+    public static boolean isCaptureStackTrace() {
+        return captureStackTrace;
+    }
+
     /**
      * Factory method to create a CheckerException from another exception.
      *
@@ -52,11 +86,35 @@ public class CheckerException extends RuntimeException {
                 new CheckerException(exception);
     }
 
+    /**
+     * Negates the message associated with this exception.
+     *
+     * @return this exception after negating its message
+     */
     public CheckerException negate() {
         this.message_.negate();
         return this;
     }
 
+    /**
+     * Returns the message associated with this exception.
+     *
+     * @return the {@link Message} of this exception
+     */
+    public Message getCheckerMessage() {
+        return this.message_;
+    }
+
+    /**
+     * Returns the detail message, formatting the underlying {@link Message} on first access.
+     *
+     * @return the detail message of this exception
+     */
+    @Override
+    public String getMessage() {
+        return this.message_.getMessage();
+    }
+
     /**
      * Returns a string representation of the exception, prefixed with " - ".
      *
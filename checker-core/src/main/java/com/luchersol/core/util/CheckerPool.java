@@ -0,0 +1,116 @@
+package com.luchersol.core.util;
+
+import java.util.ArrayDeque;
+import java.util.function.BiFunction;
+
+/**
+ * A thread-local pool of checkers of one type, recycled with {@link AbstractChecker#rebind(Object, String)}.
+ *
+ * <p>
+ * Hot loops can acquire a checker, use it and release it, instead of allocating a new checker
+ * and exception tracker for every value. Each thread keeps its own checkers, so the pool needs
+ * no synchronization; a checker must be released by the thread that acquired it.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * static final CheckerPool<String, CheckerString> STRINGS = CheckerPool.of(CheckerString::check);
+ *
+ * CheckerString checker = STRINGS.acquire(value, "value");
+ * try {
+ *     checker.min(2).max(11);
+ * } finally {
+ *     STRINGS.release(checker);
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the objects checked
+ * @param <C> the type of the pooled checkers
+ */
+public final class CheckerPool<T, C extends AbstractChecker<T, C>> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Creates a checker when the pool of the current thread is empty.
+     */
+    private final BiFunction<T, String, C> factory;
+
+    /**
+     * Maximum number of idle checkers kept by each thread.
+     */
+    private final int capacity;
+
+    /**
+     * Idle checkers of each thread.
+     */
+    private final ThreadLocal<ArrayDeque<C>> idle = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private CheckerPool(BiFunction<T, String, C> factory, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a pool keeping up to 8 idle checkers per thread.
+     *
+     * @param <T>     the type of the objects checked
+     * @param <C>     the type of the pooled checkers
+     * @param factory the factory of the checkers, usually their {@code check(object, name)} method
+     * @return a new CheckerPool
+     */
+    public static <T, C extends AbstractChecker<T, C>> CheckerPool<T, C> of(BiFunction<T, String, C> factory) {
+        return of(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool keeping up to the given number of idle checkers per thread.
+     *
+     * @param <T>      the type of the objects checked
+     * @param <C>      the type of the pooled checkers
+     * @param factory  the factory of the checkers, usually their {@code check(object, name)} method
+     * @param capacity the maximum number of idle checkers per thread
+     * @return a new CheckerPool
+     */
+    public static <T, C extends AbstractChecker<T, C>> CheckerPool<T, C> of(BiFunction<T, String, C> factory, int capacity) {
+        return new CheckerPool<>(factory, capacity);
+    }
+
+    /**
+     * Returns a checker bound to the given object, reusing an idle checker of the current
+     * thread if there is one.
+     *
+     * @param object the object to check
+     * @param name   the name of the object
+     * @return a checker in the state of a newly created one
+     */
+    public C acquire(T object, String name) {
+        C checker = this.idle.get().pollLast();
+        return checker == null ? this.factory.apply(object, name) : checker.rebind(object, name);
+    }
+
+    /**
+     * Returns a checker to the pool of the current thread. Its object and results are dropped,
+     * so they must be read before releasing it.
+     *
+     * @param checker the checker to release
+     */
+    public void release(C checker) {
+        ArrayDeque<C> idle = this.idle.get();
+        if (idle.size() < this.capacity) {
+            idle.addLast(checker.rebind(null, null));
+        }
+    }
+
+    /**
+     * Returns the number of idle checkers kept by the current thread.
+     *
+     * @return the number of idle checkers
+     */
+    public int size() {
+        return this.idle.get().size();
+    }
+
+}
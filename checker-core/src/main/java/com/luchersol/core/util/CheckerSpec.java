@@ -0,0 +1,275 @@
+package com.luchersol.core.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A compiled, reusable validation plan: a fluent chain of checks written once with the
+ * methods of a specialized checker and applied to any number of objects.
+ *
+ * <p>
+ * The plan is immutable and thread-safe. It keeps a few idle checkers, one per concurrent
+ * application, and rebinds them to every object it validates, so applying the plan does not
+ * allocate a checker nor an exception tracker per object. The checkers belong to the plan
+ * rather than to the threads that applied it, so they are released with the plan. The chain
+ * is a single lambda on the concrete checker type, which keeps its call sites monomorphic.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * CheckerSpec<String, CheckerString> username = CheckerSpec.of(CheckerString::check,
+ *     checker -> checker.min(3).max(40).matches("[a-z0-9_]+"));
+ *
+ * username.check(request.getUsername(), "username");
+ * boolean valid = username.test("bob");
+ * requests.stream().map(Request::getUsername).filter(username.asPredicate());
+ * }</pre>
+ *
+ * <p>The chain must not keep state between invocations, since it is shared by all threads.
+ *
+ * @param <T> the type of the objects validated by the plan
+ * @param <C> the type of the checker the chain is written with
+ */
+public final class CheckerSpec<T, C extends AbstractChecker<T, C>> {
+
+    private static final String DEFAULT_NAME = "Object";
+
+    /**
+     * Number of idle slots kept by a plan, a power of two.
+     */
+    private static final int SLOT_COUNT = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 32) * 2 - 1) << 1;
+
+    /**
+     * Creates the checker of each thread.
+     */
+    private final BiFunction<T, String, C> factory;
+
+    /**
+     * The recorded fluent chain.
+     */
+    private final Consumer<C> chain;
+
+    /**
+     * Idle slots, taken by an application of the plan and put back when it ends. A slot in the
+     * array is never in use, so taking it with a compare-and-set is safe.
+     */
+    private final AtomicReferenceArray<Slot<T, C>> slots = new AtomicReferenceArray<>(SLOT_COUNT);
+
+    /**
+     * State reused across applications of the plan, by one application at a time.
+     */
+    private static final class Slot<T, C extends AbstractChecker<T, C>> {
+        private C checker;
+        private final ExceptionTracker tracker = ExceptionTracker.empty(DEFAULT_NAME);
+
+        private Slot() {
+            clear();
+        }
+
+        /**
+         * Empties the scratch tracker, so that the scopes merged into it by a replay are not
+         * kept until the next one.
+         */
+        private void clear() {
+            this.tracker.reset(DEFAULT_NAME);
+            this.tracker.setTrackingLevel(ExceptionTracker.TrackingLevel.NONE);
+        }
+    }
+
+    private CheckerSpec(BiFunction<T, String, C> factory, Consumer<C> chain) {
+        this.factory = factory;
+        this.chain = chain;
+    }
+
+    /**
+     * Compiles a fluent chain of checks into a reusable plan.
+     *
+     * @param <T>     the type of the objects validated by the plan
+     * @param <C>     the type of the checker the chain is written with
+     * @param factory the factory of the checker, usually its {@code check(object, name)} method
+     * @param chain   the checks to apply, e.g. {@code checker -> checker.min(3).max(40)}
+     * @return a new CheckerSpec
+     */
+    public static <T, C extends AbstractChecker<T, C>> CheckerSpec<T, C> of(BiFunction<T, String, C> factory, Consumer<C> chain) {
+        return new CheckerSpec<>(factory, chain);
+    }
+
+    /**
+     * Applies the plan to the given object, throwing on the first failed check.
+     *
+     * @param object the object to validate
+     * @throws CheckerException if a check fails
+     */
+    public void check(T object) {
+        check(object, DEFAULT_NAME);
+    }
+
+    /**
+     * Applies the plan to the given object, throwing on the first failed check.
+     *
+     * @param object the object to validate
+     * @param name   the name of the object, used in error messages
+     * @throws CheckerException if a check fails
+     */
+    public void check(T object, String name) {
+        Slot<T, C> slot = take();
+        C checker = acquire(slot, object, name, slot.tracker, false);
+        try {
+            this.chain.accept(checker);
+        } finally {
+            release(slot);
+        }
+    }
+
+    /**
+     * Applies the plan to the given object, saving the result of every check in the given tracker
+     * instead of throwing.
+     *
+     * @param object  the object to validate
+     * @param name    the name of the object, used in error messages
+     * @param tracker the tracker that receives the results
+     * @return true if no check failed
+     */
+    public boolean check(T object, String name, ExceptionTracker tracker) {
+        long errors = tracker.getThrownCount();
+        Slot<T, C> slot = take();
+        C checker = acquire(slot, object, name, tracker, true);
+        try {
+            this.chain.accept(checker);
+        } finally {
+            release(slot);
+        }
+        return tracker.getThrownCount() == errors;
+    }
+
+    /**
+     * Applies the plan to the given object and returns the result of every check, without
+     * throwing nor creating any exception.
+     *
+     * @param object the object to validate
+     * @param name   the name of the object, used in error messages
+     * @return the result of the plan
+     */
+    public ValidationResult validate(T object, String name) {
+        Slot<T, C> slot = take();
+        C checker = acquire(slot, object, name, slot.tracker, false);
+        try {
+            return checker.validate(this.chain);
+        } finally {
+            release(slot);
+        }
+    }
+
+    /**
+     * Returns whether the given object passes every check of the plan, without throwing nor
+     * creating any exception. Evaluation stops at the first failed check.
+     *
+     * @param object the object to validate
+     * @return true if no check failed
+     */
+    public boolean test(T object) {
+        Slot<T, C> slot = take();
+        C checker = acquire(slot, object, DEFAULT_NAME, slot.tracker, false);
+        try {
+            return checker.test(this.chain);
+        } finally {
+            release(slot);
+        }
+    }
+
+    /**
+     * Returns the plan as a predicate, e.g. to filter a stream.
+     *
+     * @return a predicate equivalent to {@link #test(Object)}
+     */
+    public Predicate<T> asPredicate() {
+        return this::test;
+    }
+
+    /**
+     * Takes an idle slot, starting at the one the current thread hashes to, or creates one if
+     * every slot is in use.
+     *
+     * @return a slot owned by the caller until {@link #release} is called
+     */
+    private Slot<T, C> take() {
+        int start = home();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int index = (start + i) & (SLOT_COUNT - 1);
+            Slot<T, C> slot = this.slots.get(index);
+            if (slot != null && this.slots.compareAndSet(index, slot, null)) {
+                return slot;
+            }
+        }
+        return new Slot<>();
+    }
+
+    /**
+     * Binds the checker of the slot to the object, creating it on the first use of the slot.
+     *
+     * @param slot       the slot taken for this application
+     * @param object     the object to validate
+     * @param name       the name of the object
+     * @param tracker    the tracker of the checker
+     * @param saveErrors whether errors are saved instead of thrown
+     * @return the bound checker
+     */
+    private C acquire(Slot<T, C> slot, T object, String name, ExceptionTracker tracker, boolean saveErrors) {
+        if (slot.checker == null) {
+            slot.checker = this.factory.apply(object, name);
+        }
+        C checker = slot.checker;
+        bind(checker, object, name, tracker, saveErrors);
+        return checker;
+    }
+
+    /**
+     * Unbinds the checker of the slot once the chain has been replayed, empties its scratch
+     * tracker and puts the slot back, or drops it if every slot is already idle.
+     *
+     * @param slot the slot taken for this application
+     */
+    private void release(Slot<T, C> slot) {
+        slot.clear();
+        if (slot.checker != null) {
+            bind(slot.checker, null, null, slot.tracker, false);
+        }
+        int start = home();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int index = (start + i) & (SLOT_COUNT - 1);
+            if (this.slots.get(index) == null && this.slots.compareAndSet(index, null, slot)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the slot the current thread looks at first.
+     *
+     * @return an index of {@link #slots}
+     */
+    private static int home() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        return (hash ^ (hash >>> 16)) & (SLOT_COUNT - 1);
+    }
+
+    /**
+     * Returns the scratch tracker of the slot the current thread takes first.
+     *
+     * @return the tracker used by {@link #check(Object, String)} and {@link #test(Object)}
+     */
+    ExceptionTracker getScratchTracker() {
+        Slot<T, C> slot = take();
+        try {
+            return slot.tracker;
+        } finally {
+            release(slot);
+        }
+    }
+
+    private static <T, C extends AbstractChecker<T, C>> void bind(C checker, T object, String name, ExceptionTracker tracker, boolean saveErrors) {
+        checker.rebind(object, name, tracker).setSaveErrors(saveErrors);
+    }
+
+}
@@ -0,0 +1,277 @@
+package com.luchersol.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CompactExceptionTracker is an {@link ExceptionTracker} that stores its exceptions in columns
+ * of primitive arrays instead of sets of exception objects.
+ *
+ * <p>
+ * Each recorded check keeps only an interned subject name id, an interned message code id,
+ * a flags byte and a reference to the arguments of its message. Exceptions and texts are
+ * only rebuilt when the tracker is rendered or its maps are requested, which makes it suitable
+ * for batch audits recording millions of violations.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * Checker.check(row, "row")
+ *     .setExceptionTracker(CompactExceptionTracker.empty("row"))
+ *     .saveErrors()
+ *     ...
+ * }</pre>
+ */
+public class CompactExceptionTracker extends ExceptionTracker {
+
+    private static final byte NEGATED = 1;
+    private static final byte LITERAL = 2;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Interned subject names and message codes, shared with the child trackers.
+     */
+    private final StringTable strings;
+
+    /**
+     * Id of the name of this tracker.
+     */
+    private final int nameId;
+
+    private final Column thrownExceptions = new Column();
+    private final Column passedChecks = new Column();
+    private final Column notCheckedExceptions = new Column();
+
+    /**
+     * Constructs a CompactExceptionTracker for the given name.
+     *
+     * @param name the name associated with this tracker
+     */
+    public CompactExceptionTracker(String name) {
+        this(name, new StringTable());
+    }
+
+    private CompactExceptionTracker(String name, StringTable strings) {
+        super(name);
+        this.strings = strings;
+        this.nameId = strings.intern(name);
+    }
+
+    /**
+     * Creates an empty CompactExceptionTracker for the given name.
+     *
+     * @param name the name associated with this tracker
+     * @return a new CompactExceptionTracker instance
+     */
+    public static CompactExceptionTracker empty(String name) {
+        return new CompactExceptionTracker(name);
+    }
+
+    /**
+     * Creates an empty CompactExceptionTracker sharing the interned strings of this one.
+     *
+     * @param name the name associated with the new tracker
+     * @return a new empty CompactExceptionTracker
+     */
+    @Override
+    public ExceptionTracker createChild(String name) {
+        CompactExceptionTracker child = new CompactExceptionTracker(name, this.strings);
+        inheritInto(child);
+        return child;
+    }
+
+    /**
+     * Stores the columns of a thrown exception under the name of this tracker.
+     *
+     * @param e the exception that was thrown
+     */
+    @Override
+    protected void recordThrownException(CheckerException e) {
+        this.thrownExceptions.add(this.nameId, e.getCheckerMessage(), this.strings);
+    }
+
+    /**
+     * Stores the columns of a passed check under the name of this tracker.
+     *
+     * @param e the exception that was expected but not thrown
+     */
+    @Override
+    protected void recordPassedCheck(CheckerException e) {
+        this.passedChecks.add(this.nameId, e.getCheckerMessage(), this.strings);
+    }
+
+    /**
+     * Stores the columns of a not checked exception under the name of this tracker.
+     *
+     * @param e the exception that was not checked
+     */
+    @Override
+    protected void recordNotCheckedException(CheckerException e) {
+        this.notCheckedExceptions.add(this.nameId, e.getCheckerMessage(), this.strings);
+    }
+
+    /**
+     * Stores the exceptions of another tracker under its name. Compact trackers are copied
+     * column by column; other trackers are read through their maps.
+     *
+     * @param exceptionTracker the ExceptionTracker to merge from
+     */
+    @Override
+    protected void mergeRecords(ExceptionTracker exceptionTracker) {
+        int subjectId = this.strings.intern(exceptionTracker.getName());
+        if (exceptionTracker instanceof CompactExceptionTracker compact) {
+            this.thrownExceptions.addAll(subjectId, compact.thrownExceptions, compact.strings, this.strings);
+            this.passedChecks.addAll(subjectId, compact.passedChecks, compact.strings, this.strings);
+            this.notCheckedExceptions.addAll(subjectId, compact.notCheckedExceptions, compact.strings, this.strings);
+        } else {
+            addAll(this.thrownExceptions, subjectId, exceptionTracker.getThrownExceptions());
+            addAll(this.passedChecks, subjectId, exceptionTracker.getPassedChecks());
+            addAll(this.notCheckedExceptions, subjectId, exceptionTracker.getNotCheckedExceptions());
+        }
+    }
+
+    /**
+     * Stores every exception of the given map into a column under the given subject.
+     *
+     * @param column     the column to store into
+     * @param subjectId  the id of the subject name
+     * @param exceptions the exceptions to store
+     */
+    private void addAll(Column column, int subjectId, Map<String, Set<CheckerException>> exceptions) {
+        for (Set<CheckerException> set : exceptions.values()) {
+            for (CheckerException e : set) {
+                column.add(subjectId, e.getCheckerMessage(), this.strings);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the map of thrown exceptions categorized by name.
+     *
+     * @return a new map of thrown exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getThrownExceptions() {
+        return this.thrownExceptions.expand(this.nameId, this.strings);
+    }
+
+    /**
+     * Rebuilds the map of not thrown exceptions categorized by name.
+     *
+     * @return a new map of not thrown exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getPassedChecks() {
+        return this.passedChecks.expand(this.nameId, this.strings);
+    }
+
+    /**
+     * Rebuilds the map of not checked exceptions categorized by name.
+     *
+     * @return a new map of not checked exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getNotCheckedExceptions() {
+        return this.notCheckedExceptions.expand(this.nameId, this.strings);
+    }
+
+    /**
+     * Returns the number of checks stored in this tracker, across all categories.
+     *
+     * @return the number of stored checks
+     */
+    public int size() {
+        return this.thrownExceptions.size + this.passedChecks.size + this.notCheckedExceptions.size;
+    }
+
+    /**
+     * Interned strings, identified by their insertion index.
+     */
+    private static final class StringTable {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int intern(String value) {
+            Integer id = this.ids.get(value);
+            if (id == null) {
+                id = this.values.size();
+                this.ids.put(value, id);
+                this.values.add(value);
+            }
+            return id;
+        }
+
+        String get(int id) {
+            return this.values.get(id);
+        }
+
+    }
+
+    /**
+     * The stored checks of one category, one array per attribute.
+     */
+    private static final class Column {
+
+        private int size;
+        private int[] subjects = new int[INITIAL_CAPACITY];
+        private int[] codes = new int[INITIAL_CAPACITY];
+        private byte[] flags = new byte[INITIAL_CAPACITY];
+        private Object[][] args = new Object[INITIAL_CAPACITY][];
+
+        void add(int subjectId, Message message, StringTable strings) {
+            String code = message.getBaseCode();
+            byte flag = code == null ? LITERAL : message.isNegated() ? NEGATED : 0;
+            int codeId = strings.intern(code == null ? message.getMessage() : code);
+            add(subjectId, codeId, flag, message.getArgs());
+        }
+
+        void add(int subjectId, int codeId, byte flag, Object[] arguments) {
+            if (this.size == this.subjects.length) {
+                int capacity = this.size + (this.size >> 1);
+                this.subjects = Arrays.copyOf(this.subjects, capacity);
+                this.codes = Arrays.copyOf(this.codes, capacity);
+                this.flags = Arrays.copyOf(this.flags, capacity);
+                this.args = Arrays.copyOf(this.args, capacity);
+            }
+            this.subjects[this.size] = subjectId;
+            this.codes[this.size] = codeId;
+            this.flags[this.size] = flag;
+            this.args[this.size] = arguments;
+            this.size++;
+        }
+
+        void addAll(int subjectId, Column other, StringTable from, StringTable to) {
+            for (int i = 0; i < other.size; i++) {
+                int codeId = from == to ? other.codes[i] : to.intern(from.get(other.codes[i]));
+                add(subjectId, codeId, other.flags[i], other.args[i]);
+            }
+        }
+
+        Map<String, Set<CheckerException>> expand(int nameId, StringTable strings) {
+            Map<String, Set<CheckerException>> exceptions = new LinkedHashMap<>();
+            exceptions.put(strings.get(nameId), new LinkedHashSet<>());
+            for (int i = 0; i < this.size; i++) {
+                exceptions.computeIfAbsent(strings.get(this.subjects[i]), k -> new LinkedHashSet<>())
+                        .add(new CheckerException(toMessage(i, strings)));
+            }
+            return exceptions;
+        }
+
+        private Message toMessage(int index, StringTable strings) {
+            String code = strings.get(this.codes[index]);
+            if ((this.flags[index] & LITERAL) != 0) {
+                return Message.ofMessage(code);
+            }
+            Message message = Message.ofCode(code, this.args[index]);
+            return (this.flags[index] & NEGATED) != 0 ? message.negate() : message;
+        }
+
+    }
+
+}
@@ -0,0 +1,290 @@
+package com.luchersol.core.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ConcurrentExceptionTracker is a thread-safe {@link ExceptionTracker} that several threads
+ * can record into, and merge into, at the same time.
+ *
+ * <p>
+ * Each thread appends to its own buffer, so recording never contends on a global lock, and
+ * counts are kept in {@link LongAdder}s. The buffers are combined when the exceptions are read
+ * or shown, in the order in which the threads first recorded into the tracker. The buffers
+ * belong to the tracker rather than to the threads, so they are released with the tracker
+ * and never linger in the pool threads that recorded into it.
+ *
+ * <p>
+ * The trackers created by {@link #createChild(String)} for nested checkers are plain
+ * {@link ExceptionTracker}s, since a nested checker is used by a single thread; they are
+ * merged safely into this one by {@link #merge(ExceptionTracker)}.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * ConcurrentExceptionTracker report = ConcurrentExceptionTracker.empty("order");
+ * order.lines().parallelStream().forEach(line -> Checker.check(line, "line")
+ *     .setExceptionTracker(report)
+ *     .saveErrors()
+ *     ...);
+ * report.show();
+ * }</pre>
+ */
+public class ConcurrentExceptionTracker extends ExceptionTracker {
+
+    private final LongAdder thrownCount = new LongAdder();
+    private final LongAdder passedCount = new LongAdder();
+    private final LongAdder notCheckedCount = new LongAdder();
+
+    /**
+     * Buffers of every thread that recorded into this tracker, in registration order.
+     */
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Buffer of each thread that recorded into this tracker.
+     */
+    private final Map<Thread, Buffer> buffersByThread = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a ConcurrentExceptionTracker for the given name.
+     *
+     * @param name the name associated with this tracker
+     */
+    public ConcurrentExceptionTracker(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates an empty ConcurrentExceptionTracker for the given name.
+     *
+     * @param name the name associated with this tracker
+     * @return a new ConcurrentExceptionTracker instance
+     */
+    public static ConcurrentExceptionTracker empty(String name) {
+        return new ConcurrentExceptionTracker(name);
+    }
+
+    /**
+     * Counts a thrown exception without recording it.
+     */
+    @Override
+    protected void countThrownException() {
+        this.thrownCount.increment();
+    }
+
+    /**
+     * Counts a passed check without recording it.
+     */
+    @Override
+    protected void countPassedCheck() {
+        this.passedCount.increment();
+    }
+
+    /**
+     * Counts a not checked exception without recording it.
+     */
+    @Override
+    protected void countNotCheckedException() {
+        this.notCheckedCount.increment();
+    }
+
+    /**
+     * Returns the number of thrown exceptions, including those not recorded.
+     *
+     * @return the number of thrown exceptions
+     */
+    @Override
+    public long getThrownCount() {
+        return this.thrownCount.sum();
+    }
+
+    /**
+     * Returns the number of passed checks, including those not recorded.
+     *
+     * @return the number of passed checks
+     */
+    @Override
+    public long getPassedCount() {
+        return this.passedCount.sum();
+    }
+
+    /**
+     * Returns the number of not checked exceptions, including those not recorded.
+     *
+     * @return the number of not checked exceptions
+     */
+    @Override
+    public long getNotCheckedCount() {
+        return this.notCheckedCount.sum();
+    }
+
+    /**
+     * Stores a thrown exception in the buffer of the current thread.
+     *
+     * @param e the exception that was thrown
+     */
+    @Override
+    protected void recordThrownException(CheckerException e) {
+        buffer().thrownExceptions.add(getName(), e);
+    }
+
+    /**
+     * Stores a passed check in the buffer of the current thread.
+     *
+     * @param e the exception that was expected but not thrown
+     */
+    @Override
+    protected void recordPassedCheck(CheckerException e) {
+        buffer().passedChecks.add(getName(), e);
+    }
+
+    /**
+     * Stores a not checked exception in the buffer of the current thread.
+     *
+     * @param e the exception that was not checked
+     */
+    @Override
+    protected void recordNotCheckedException(CheckerException e) {
+        buffer().notCheckedExceptions.add(getName(), e);
+    }
+
+    /**
+     * Stores the exceptions of another tracker under its name, in the buffer of the current thread.
+     *
+     * @param exceptionTracker the ExceptionTracker to merge from
+     */
+    @Override
+    protected void mergeRecords(ExceptionTracker exceptionTracker) {
+        String propertyName = exceptionTracker.getName();
+        Buffer buffer = buffer();
+        buffer.thrownExceptions.addAll(propertyName, exceptionTracker.getThrownExceptions());
+        buffer.passedChecks.addAll(propertyName, exceptionTracker.getPassedChecks());
+        buffer.notCheckedExceptions.addAll(propertyName, exceptionTracker.getNotCheckedExceptions());
+    }
+
+    /**
+     * Adds the counts of another tracker to the counts of this one.
+     *
+     * @param exceptionTracker the ExceptionTracker to merge from
+     */
+    @Override
+    protected void mergeCounts(ExceptionTracker exceptionTracker) {
+        this.thrownCount.add(exceptionTracker.getThrownCount());
+        this.passedCount.add(exceptionTracker.getPassedCount());
+        this.notCheckedCount.add(exceptionTracker.getNotCheckedCount());
+    }
+
+    /**
+     * Combines the thrown exceptions of every thread, categorized by name.
+     *
+     * @return a new map of thrown exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getThrownExceptions() {
+        Map<String, Set<CheckerException>> exceptions = emptyMap();
+        this.buffers.forEach(buffer -> buffer.thrownExceptions.copyTo(exceptions));
+        return exceptions;
+    }
+
+    /**
+     * Combines the passed checks of every thread, categorized by name.
+     *
+     * @return a new map of not thrown exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getPassedChecks() {
+        Map<String, Set<CheckerException>> exceptions = emptyMap();
+        this.buffers.forEach(buffer -> buffer.passedChecks.copyTo(exceptions));
+        return exceptions;
+    }
+
+    /**
+     * Combines the not checked exceptions of every thread, categorized by name.
+     *
+     * @return a new map of not checked exceptions
+     */
+    @Override
+    public Map<String, Set<CheckerException>> getNotCheckedExceptions() {
+        Map<String, Set<CheckerException>> exceptions = emptyMap();
+        this.buffers.forEach(buffer -> buffer.notCheckedExceptions.copyTo(exceptions));
+        return exceptions;
+    }
+
+    /**
+     * Returns the buffer of the current thread, registering a new one on its first record.
+     *
+     * @return the buffer of the current thread
+     */
+    private Buffer buffer() {
+        Thread thread = Thread.currentThread();
+        Buffer buffer = this.buffersByThread.get(thread);
+        if (buffer == null) {
+            buffer = this.buffersByThread.computeIfAbsent(thread, key -> {
+                Buffer created = new Buffer();
+                this.buffers.add(created);
+                return created;
+            });
+        }
+        return buffer;
+    }
+
+    /**
+     * Creates a map containing an empty set under the name of this tracker.
+     *
+     * @return a new map
+     */
+    private Map<String, Set<CheckerException>> emptyMap() {
+        Map<String, Set<CheckerException>> exceptions = new LinkedHashMap<>();
+        exceptions.put(getName(), new LinkedHashSet<>());
+        return exceptions;
+    }
+
+    /**
+     * The exceptions recorded by one thread.
+     */
+    private static final class Buffer {
+        private final Entries thrownExceptions = new Entries();
+        private final Entries passedChecks = new Entries();
+        private final Entries notCheckedExceptions = new Entries();
+    }
+
+    /**
+     * Append-only list of exceptions and the names they are stored under. Appends come from
+     * a single thread, so its lock is only contended while the tracker is being read.
+     */
+    private static final class Entries {
+
+        private String[] names = new String[16];
+        private CheckerException[] exceptions = new CheckerException[16];
+        private int size;
+
+        synchronized void add(String name, CheckerException exception) {
+            if (this.size == this.names.length) {
+                this.names = Arrays.copyOf(this.names, this.size * 2);
+                this.exceptions = Arrays.copyOf(this.exceptions, this.size * 2);
+            }
+            this.names[this.size] = name;
+            this.exceptions[this.size] = exception;
+            this.size++;
+        }
+
+        synchronized void addAll(String name, Map<String, Set<CheckerException>> exceptions) {
+            exceptions.values().forEach(set -> set.forEach(exception -> add(name, exception)));
+        }
+
+        synchronized void copyTo(Map<String, Set<CheckerException>> target) {
+            for (int i = 0; i < this.size; i++) {
+                target.computeIfAbsent(this.names[i], k -> new LinkedHashSet<>()).add(this.exceptions[i]);
+            }
+        }
+
+    }
+
+}
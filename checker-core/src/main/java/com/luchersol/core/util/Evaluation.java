@@ -0,0 +1,86 @@
+package com.luchersol.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Failed checks of an exception-free evaluation, shared by a checker and the checkers of
+ * its properties while {@link AbstractChecker#test} or {@link AbstractChecker#validate}
+ * runs. No {@link CheckerException} is created: a failure is only its checker name and its
+ * lazy {@link Message}.
+ */
+final class Evaluation {
+
+    /**
+     * A failed check.
+     *
+     * @param name    the name of the checker whose check failed
+     * @param message the negated message of the check, not yet formatted
+     */
+    record Failure(String name, Message message) {}
+
+    private final boolean shortCircuit;
+    private final List<Failure> failures;
+    private int failedCount;
+
+    /**
+     * Creates an evaluation.
+     *
+     * @param shortCircuit true to stop at the first failure without keeping it, false to
+     *                     evaluate and keep every failure
+     */
+    Evaluation(boolean shortCircuit) {
+        this.shortCircuit = shortCircuit;
+        this.failures = shortCircuit ? List.of() : new ArrayList<>();
+    }
+
+    /**
+     * Returns whether the remaining checks can be skipped.
+     *
+     * @return true if the evaluation short-circuits and a check has already failed
+     */
+    boolean isDone() {
+        return this.shortCircuit && this.failedCount > 0;
+    }
+
+    /**
+     * Records a failed check.
+     *
+     * @param name    the name of the checker
+     * @param message the message of the check
+     */
+    void fail(String name, Message message) {
+        this.failedCount++;
+        if (!this.shortCircuit) {
+            this.failures.add(new Failure(name, message.negate()));
+        }
+    }
+
+    /**
+     * Returns whether no check failed.
+     *
+     * @return true if no check failed
+     */
+    boolean isValid() {
+        return this.failedCount == 0;
+    }
+
+    /**
+     * Returns the number of failed checks.
+     *
+     * @return the number of failed checks
+     */
+    int getFailedCount() {
+        return this.failedCount;
+    }
+
+    /**
+     * Returns the failed checks, empty when the evaluation short-circuits.
+     *
+     * @return the failed checks
+     */
+    List<Failure> getFailures() {
+        return this.failures;
+    }
+
+}
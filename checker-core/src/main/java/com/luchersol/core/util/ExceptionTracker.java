@@ -1,11 +1,15 @@
 package com.luchersol.core.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.fusesource.jansi.Ansi;
 import org.fusesource.jansi.Ansi.Color;
@@ -17,6 +21,11 @@ import org.fusesource.jansi.AnsiConsole;
  */
 public class ExceptionTracker  {
 
+    /**
+     * Violation budget of a tracker that never stops the checks.
+     */
+    public static final long UNLIMITED_BUDGET = Long.MAX_VALUE;
+
     /**
      * The message displayed when no exceptions are present.
      */
@@ -42,6 +51,100 @@ public class ExceptionTracker  {
      */
     private Map<String, Set<CheckerException>> notCheckedExceptions;
 
+    /**
+     * Which checks are recorded in this tracker.
+     */
+    private volatile TrackingLevel trackingLevel;
+
+    /**
+     * Number of thrown exceptions, recorded or not.
+     */
+    private long thrownCount;
+
+    /**
+     * Number of passed checks, recorded or not.
+     */
+    private long passedCount;
+
+    /**
+     * Number of not checked exceptions, recorded or not.
+     */
+    private long notCheckedCount;
+
+    /**
+     * Trackers merged into this one, attached by reference, or null if none.
+     */
+    private List<ExceptionTracker> children;
+
+    /**
+     * Whether this tracker is referenced by a parent tracker or by a result, so that it must
+     * not be cleared for reuse.
+     */
+    private boolean shared;
+
+    /**
+     * Number of thrown exceptions after which the remaining checks are not run, or
+     * {@link #UNLIMITED_BUDGET}.
+     */
+    private long violationBudget = UNLIMITED_BUDGET;
+
+    /**
+     * Tracker whose violation budget this one shares, for nested checkers, or null.
+     */
+    private ExceptionTracker budgetParent;
+
+    /**
+     * Pipeline to which thrown exceptions are handed off, or null.
+     */
+    private volatile ViolationPipeline violationPipeline;
+
+    /**
+     * Flight Recorder event of the scope of this child tracker, committed when it is merged, or null.
+     */
+    private ScopeEvent scopeEvent;
+
+    /**
+     * The categories of exceptions kept by a tracker.
+     */
+    private enum Category {
+        THROWN, PASSED, NOT_CHECKED;
+
+        /**
+         * Returns the map stored by the tracker itself for this category.
+         */
+        Map<String, Set<CheckerException>> of(ExceptionTracker tracker) {
+            return switch (this) {
+                case THROWN -> tracker.thrownExceptions;
+                case PASSED -> tracker.passedChecks;
+                case NOT_CHECKED -> tracker.notCheckedExceptions;
+            };
+        }
+
+        /**
+         * Returns the complete map of the tracker for this category, as seen by its callers.
+         */
+        Map<String, Set<CheckerException>> all(ExceptionTracker tracker) {
+            return switch (this) {
+                case THROWN -> tracker.getThrownExceptions();
+                case PASSED -> tracker.getPassedChecks();
+                case NOT_CHECKED -> tracker.getNotCheckedExceptions();
+            };
+        }
+    }
+
+    /**
+     * Level of detail kept by an {@link ExceptionTracker}. Every level keeps the number
+     * of checks of each category, so {@link ExceptionTracker#hasErrors()} works at all levels.
+     */
+    public enum TrackingLevel {
+        /** Only the counts are kept. */
+        NONE,
+        /** Thrown and not checked exceptions are recorded; passed checks are only counted. */
+        FAILURES,
+        /** Every check is recorded. */
+        ALL
+    }
+
     /**
      * Constructs an ExceptionTracker for the given name.
      *
@@ -55,6 +158,7 @@ public class ExceptionTracker  {
         this.passedChecks.put(name, new LinkedHashSet<>());
         this.notCheckedExceptions = new HashMap<>();
         this.notCheckedExceptions.put(name, new LinkedHashSet<>());
+        this.trackingLevel = TrackingLevel.ALL;
     }
 
 
@@ -69,13 +173,206 @@ public class ExceptionTracker  {
     }
 
 
+    /**
+     * Creates an empty tracker of the same kind and tracking level, used for nested checkers
+     * whose exceptions are later merged into this one.
+     *
+     * @param name the name associated with the new tracker
+     * @return a new empty ExceptionTracker
+     */
+    public ExceptionTracker createChild(String name) {
+        ExceptionTracker child = new ExceptionTracker(name);
+        inheritInto(child);
+        return child;
+    }
+
+
+    /**
+     * Copies the tracking level and the violation pipeline of this tracker into a child, makes
+     * the child share the violation budget of this tracker, and starts the {@link ScopeEvent}
+     * of the child when Flight Recorder records it.
+     *
+     * @param child the child tracker
+     */
+    protected void inheritInto(ExceptionTracker child) {
+        child.setTrackingLevel(this.trackingLevel);
+        child.violationPipeline = this.violationPipeline;
+        child.scopeEvent = ScopeEvent.start();
+        if (this.violationBudget != UNLIMITED_BUDGET) {
+            child.violationBudget = this.violationBudget;
+            child.budgetParent = this;
+        }
+    }
+
+
+    /**
+     * Empties this tracker so that it can be reused under the given name, as if it had
+     * just been created. The sets of the previous use are cleared in place.
+     *
+     * @param name the name associated with this tracker
+     */
+    void reset(String name) {
+        if (Objects.equals(this.name, name)) {
+            this.thrownExceptions.values().forEach(Set::clear);
+            this.passedChecks.values().forEach(Set::clear);
+            this.notCheckedExceptions.values().forEach(Set::clear);
+        } else {
+            this.name = name;
+            resetMap(this.thrownExceptions, name);
+            resetMap(this.passedChecks, name);
+            resetMap(this.notCheckedExceptions, name);
+        }
+        this.children = null;
+        this.shared = false;
+        this.thrownCount = 0;
+        this.passedCount = 0;
+        this.notCheckedCount = 0;
+        this.trackingLevel = TrackingLevel.ALL;
+        this.violationBudget = UNLIMITED_BUDGET;
+        this.budgetParent = null;
+        this.violationPipeline = null;
+        this.scopeEvent = null;
+    }
+
+
+    private static void resetMap(Map<String, Set<CheckerException>> exceptions, String name) {
+        exceptions.clear();
+        exceptions.put(name, new LinkedHashSet<>());
+    }
+
+
+    /**
+     * Returns the name associated with this tracker.
+     *
+     * @return the name of this tracker
+     */
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Returns the level of detail kept by this tracker.
+     *
+     * @return the tracking level
+     */
+    public TrackingLevel getTrackingLevel() {
+        return trackingLevel;
+    }
+
+
+    /**
+     * Sets the level of detail kept by this tracker. Checks already recorded are kept.
+     *
+     * @param trackingLevel the tracking level
+     */
+    public void setTrackingLevel(TrackingLevel trackingLevel) {
+        this.trackingLevel = trackingLevel;
+    }
+
+
+    /**
+     * Returns the number of thrown exceptions after which the remaining checks are not run.
+     *
+     * @return the violation budget, or {@link #UNLIMITED_BUDGET}
+     */
+    public long getViolationBudget() {
+        return violationBudget;
+    }
+
+
+    /**
+     * Sets the number of thrown exceptions after which the remaining checks of the checkers
+     * saving errors into this tracker, and of their nested checkers, are recorded as not checked
+     * without running them. This bounds the cost of validating a badly malformed object.
+     *
+     * @param violationBudget the maximum number of thrown exceptions, or {@link #UNLIMITED_BUDGET}
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    public void setViolationBudget(long violationBudget) {
+        if (violationBudget < 1) {
+            throw new IllegalArgumentException("violationBudget must be positive: " + violationBudget);
+        }
+        this.violationBudget = violationBudget;
+    }
+
+
+    /**
+     * Returns the pipeline to which thrown exceptions are handed off.
+     *
+     * @return the violation pipeline, or null
+     */
+    public ViolationPipeline getViolationPipeline() {
+        return violationPipeline;
+    }
+
+
+    /**
+     * Hands off every exception thrown into this tracker, and into the trackers of nested
+     * checkers created afterwards, to the given pipeline, regardless of the tracking level.
+     * Publishing only enqueues the exception: its message is formatted by the sinks, on the
+     * pipeline thread.
+     *
+     * @param violationPipeline the violation pipeline, or null to stop publishing
+     */
+    public void setViolationPipeline(ViolationPipeline violationPipeline) {
+        this.violationPipeline = violationPipeline;
+    }
+
+
+    /**
+     * Returns whether the violation budget has been reached, counting the exceptions thrown
+     * into the trackers whose budget this one shares.
+     *
+     * @return true if the remaining checks must not be run
+     */
+    public boolean isBudgetExhausted() {
+        return this.violationBudget != UNLIMITED_BUDGET && getViolationCount() >= this.violationBudget;
+    }
+
+
+    private long getViolationCount() {
+        return this.budgetParent == null ? getThrownCount() : getThrownCount() + this.budgetParent.getViolationCount();
+    }
+
+
+    /**
+     * Returns whether failed and not checked exceptions are recorded.
+     *
+     * @return true if failures are recorded
+     */
+    public boolean isTrackingFailures() {
+        return this.trackingLevel != TrackingLevel.NONE;
+    }
+
+
+    /**
+     * Returns whether passed checks are recorded.
+     *
+     * @return true if passed checks are recorded
+     */
+    public boolean isTrackingPassedChecks() {
+        return this.trackingLevel == TrackingLevel.ALL;
+    }
+
+
     /**
      * Adds an exception to the list of thrown exceptions.
      *
      * @param e the exception that was thrown
      */
     public void addThrownException(Exception e) {
-        this.thrownExceptions.get(name).add(CheckerException.of(e));
+        countThrownException();
+        ViolationPipeline pipeline = this.violationPipeline;
+        boolean tracking = isTrackingFailures();
+        if (pipeline == null && !tracking)
+            return;
+
+        CheckerException exception = CheckerException.of(e);
+        if (pipeline != null)
+            pipeline.publish(this.name, exception);
+        if (tracking)
+            recordThrownException(exception);
     }
 
 
@@ -85,7 +382,33 @@ public class ExceptionTracker  {
      * @param e the exception that was expected but not thrown
      */
     public void addPassedChecks(Exception e) {
-        this.passedChecks.get(name).add(CheckerException.of(e));
+        countPassedCheck();
+        if (isTrackingPassedChecks())
+            recordPassedCheck(CheckerException.of(e));
+    }
+
+
+    /**
+     * Counts a thrown exception without recording it.
+     */
+    protected void countThrownException() {
+        this.thrownCount++;
+    }
+
+
+    /**
+     * Counts a passed check without recording it.
+     */
+    protected void countPassedCheck() {
+        this.passedCount++;
+    }
+
+
+    /**
+     * Counts a not checked exception without recording it.
+     */
+    protected void countNotCheckedException() {
+        this.notCheckedCount++;
     }
 
 
@@ -95,48 +418,263 @@ public class ExceptionTracker  {
      * @param e the exception that was not checked
      */
     public void addNotCheckedException(Exception e) {
-        this.notCheckedExceptions.get(name).add(CheckerException.of(e));
+        countNotCheckedException();
+        if (isTrackingFailures())
+            recordNotCheckedException(CheckerException.of(e));
+    }
+
+
+    /**
+     * Stores a thrown exception under the name of this tracker.
+     * Subclasses override the record methods to provide other storage backends.
+     *
+     * @param e the exception that was thrown
+     */
+    protected void recordThrownException(CheckerException e) {
+        this.thrownExceptions.get(name).add(e);
+    }
+
+
+    /**
+     * Stores a passed check under the name of this tracker.
+     *
+     * @param e the exception that was expected but not thrown
+     */
+    protected void recordPassedCheck(CheckerException e) {
+        this.passedChecks.get(name).add(e);
+    }
+
+
+    /**
+     * Stores a not checked exception under the name of this tracker.
+     *
+     * @param e the exception that was not checked
+     */
+    protected void recordNotCheckedException(CheckerException e) {
+        this.notCheckedExceptions.get(name).add(e);
+    }
+
+
+    /**
+     * Returns the number of thrown exceptions, including those not recorded.
+     *
+     * @return the number of thrown exceptions
+     */
+    public long getThrownCount() {
+        return thrownCount;
+    }
+
+
+    /**
+     * Returns the number of passed checks, including those not recorded.
+     *
+     * @return the number of passed checks
+     */
+    public long getPassedCount() {
+        return passedCount;
+    }
+
+
+    /**
+     * Returns the number of not checked exceptions, including those not recorded.
+     *
+     * @return the number of not checked exceptions
+     */
+    public long getNotCheckedCount() {
+        return notCheckedCount;
     }
 
 
     /**
      * Returns the map of thrown exceptions categorized by name.
+     * The exceptions of merged trackers are flattened under their names when requested.
      *
      * @return the map of thrown exceptions
      */
     public Map<String, Set<CheckerException>> getThrownExceptions() {
-        return thrownExceptions;
+        return flatten(Category.THROWN);
     }
 
 
     /**
      * Returns the map of not thrown exceptions categorized by name.
+     * The exceptions of merged trackers are flattened under their names when requested.
      *
      * @return the map of not thrown exceptions
      */
     public Map<String, Set<CheckerException>> getPassedChecks() {
-        return passedChecks;
+        return flatten(Category.PASSED);
+    }
+
+
+    /**
+     * Returns the map of not checked exceptions categorized by name.
+     * The exceptions of merged trackers are flattened under their names when requested.
+     *
+     * @return the map of not checked exceptions
+     */
+    public Map<String, Set<CheckerException>> getNotCheckedExceptions() {
+        return flatten(Category.NOT_CHECKED);
     }
 
     /**
      * Merges another ExceptionTracker's exceptions into this one, combining all categories by name.
+     * Merging a tracker into itself has no effect.
      *
      * @param exceptionTracker the ExceptionTracker to merge from
      */
     public void merge(ExceptionTracker exceptionTracker) {
-        Function<Map<String, Set<CheckerException>>, Set<CheckerException>> f = map -> map.values().stream()
-                .flatMap(Set::stream).collect(Collectors.toSet());
-        String propertyName = exceptionTracker.name;
+        if (exceptionTracker == this)
+            return;
+
+        mergeRecords(exceptionTracker);
+        mergeCounts(exceptionTracker);
+
+        ScopeEvent event = exceptionTracker.scopeEvent;
+        if (event != null) {
+            exceptionTracker.scopeEvent = null;
+            event.commit(exceptionTracker, this);
+        }
+    }
+
+
+    /**
+     * Adds the counts of another tracker to the counts of this one.
+     *
+     * @param exceptionTracker the ExceptionTracker to merge from
+     */
+    protected void mergeCounts(ExceptionTracker exceptionTracker) {
+        this.thrownCount += exceptionTracker.getThrownCount();
+        this.passedCount += exceptionTracker.getPassedCount();
+        this.notCheckedCount += exceptionTracker.getNotCheckedCount();
+    }
+
+
+    /**
+     * Keeps the records of another tracker, as far as the tracking level of this one asks for.
+     * At {@link TrackingLevel#ALL} the tracker is attached by reference, in constant time: its
+     * exceptions are flattened under its name only when the exceptions of this tracker are
+     * requested, so nested scopes are never copied into their parents. At
+     * {@link TrackingLevel#FAILURES} only its failures are copied, and at
+     * {@link TrackingLevel#NONE} nothing is kept, so merging scopes never retains them. As with
+     * {@code end()}, a tracker is expected to be merged once its own checks are complete; its
+     * counts are added at merge time. Subclasses override it together with the record methods.
+     *
+     * @param exceptionTracker the ExceptionTracker to merge from
+     */
+    protected void mergeRecords(ExceptionTracker exceptionTracker) {
+        switch (this.trackingLevel) {
+            case ALL -> {
+                if (this.children == null)
+                    this.children = new ArrayList<>();
+
+                this.children.add(exceptionTracker);
+                exceptionTracker.markShared();
+            }
+            case FAILURES -> {
+                copyRecords(exceptionTracker, Category.THROWN);
+                copyRecords(exceptionTracker, Category.NOT_CHECKED);
+            }
+            case NONE -> {
+                // Only the counts are kept
+            }
+        }
+    }
 
-        this.thrownExceptions.putIfAbsent(propertyName, new LinkedHashSet<>());
-        this.passedChecks.putIfAbsent(propertyName, new LinkedHashSet<>());
-        this.notCheckedExceptions.putIfAbsent(propertyName, new LinkedHashSet<>());
 
-        this.thrownExceptions.get(propertyName).addAll(f.apply(exceptionTracker.thrownExceptions));
-        this.passedChecks.get(propertyName).addAll(f.apply(exceptionTracker.passedChecks));
-        this.notCheckedExceptions.get(propertyName).addAll(f.apply(exceptionTracker.notCheckedExceptions));
+    /**
+     * Marks this tracker as referenced by a parent tracker or by a result, so that the checker
+     * owning it allocates a new one instead of clearing it on its next rebind.
+     */
+    void markShared() {
+        this.shared = true;
+    }
 
 
+    /**
+     * Returns whether this tracker is referenced by a parent tracker or by a result.
+     *
+     * @return true if this tracker must not be cleared for reuse
+     */
+    boolean isShared() {
+        return this.shared;
+    }
+
+
+    /**
+     * Returns the number of trackers attached to this one by reference.
+     *
+     * @return the number of attached trackers
+     */
+    int getChildCount() {
+        return this.children == null ? 0 : this.children.size();
+    }
+
+
+    /**
+     * Copies the exceptions of the given category of another tracker into this one, by name.
+     *
+     * @param exceptionTracker the ExceptionTracker to copy from
+     * @param category         the category to copy
+     */
+    private void copyRecords(ExceptionTracker exceptionTracker, Category category) {
+        long count = category == Category.THROWN ? exceptionTracker.getThrownCount() : exceptionTracker.getNotCheckedCount();
+        if (count == 0)
+            return;
+
+        Map<String, Set<CheckerException>> target = category.of(this);
+        category.all(exceptionTracker).forEach((key, value) -> {
+            if (!value.isEmpty())
+                target.computeIfAbsent(key, k -> new LinkedHashSet<>()).addAll(value);
+        });
+    }
+
+
+    /**
+     * Builds the map of the given category, with the exceptions of each merged tracker
+     * flattened under its name. Without merged trackers the stored map is returned.
+     *
+     * @param category the category to build
+     * @return the map of exceptions of the category
+     */
+    private Map<String, Set<CheckerException>> flatten(Category category) {
+        Map<String, Set<CheckerException>> own = category.of(this);
+        if (this.children == null)
+            return own;
+
+        Map<String, Set<CheckerException>> exceptions = new LinkedHashMap<>();
+        own.forEach((key, value) -> exceptions.put(key, new LinkedHashSet<>(value)));
+        Set<ExceptionTracker> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visited.add(this);
+        for (ExceptionTracker child : this.children) {
+            collect(child, category, exceptions.computeIfAbsent(child.name, key -> new LinkedHashSet<>()), visited);
+        }
+        return exceptions;
+    }
+
+
+    /**
+     * Adds every exception of the given category stored in a tracker, and in the trackers
+     * merged into it, to the target set.
+     *
+     * @param tracker  the tracker to collect from
+     * @param category the category to collect
+     * @param target   the set to add the exceptions to
+     * @param visited  the trackers already collected
+     */
+    private static void collect(ExceptionTracker tracker, Category category, Set<CheckerException> target, Set<ExceptionTracker> visited) {
+        if (!visited.add(tracker))
+            return;
+
+        if (tracker.children == null) {
+            category.all(tracker).values().forEach(target::addAll);
+            return;
+        }
+
+        category.of(tracker).values().forEach(target::addAll);
+        for (ExceptionTracker child : tracker.children) {
+            collect(child, category, target, visited);
+        }
     }
 
 
@@ -146,7 +684,7 @@ public class ExceptionTracker  {
      * @return true if there are thrown exceptions, false otherwise
      */
     public boolean hasErrors() {
-        return !this.thrownExceptions.isEmpty();
+        return getThrownCount() > 0;
     }
 
 
@@ -156,7 +694,7 @@ public class ExceptionTracker  {
      * @return true if there are no thrown exceptions, false otherwise
      */
     public boolean hasNotErrors() {
-        return this.thrownExceptions.isEmpty();
+        return getThrownCount() == 0;
     }
 
 
@@ -164,7 +702,7 @@ public class ExceptionTracker  {
      * Displays all thrown exceptions in red color.
      */
     public void showThrownException(){
-        showException("Thrown Exceptions:", this.thrownExceptions, Color.RED);
+        showException("Thrown Exceptions:", getThrownExceptions(), Color.RED, isTrackingFailures(), getThrownCount());
     }
 
 
@@ -172,7 +710,7 @@ public class ExceptionTracker  {
      * Displays all not thrown exceptions in green color.
      */
     public void showPassedChecks(){
-        showException("Passed Checks:", this.passedChecks, Color.GREEN);
+        showException("Passed Checks:", getPassedChecks(), Color.GREEN, isTrackingPassedChecks(), getPassedCount());
     }
 
 
@@ -180,7 +718,7 @@ public class ExceptionTracker  {
      * Displays all not checked exceptions in yellow color.
      */
     public void showNotCheckedThrownException(){
-        showException("Not Checked Exceptions:", this.notCheckedExceptions, Color.YELLOW);
+        showException("Not Checked Exceptions:", getNotCheckedExceptions(), Color.YELLOW, isTrackingFailures(), getNotCheckedCount());
     }
 
 
@@ -190,14 +728,19 @@ public class ExceptionTracker  {
      * @param title               the title to display
      * @param excepctionMap       the map of exceptions to display
      * @param colorTextException  the color to use for exception messages
+     * @param tracked             whether the exceptions of this category are recorded
+     * @param count               the number of exceptions of this category
      */
-    private void showException(String title, Map<String, Set<CheckerException>> excepctionMap, Color colorTextException){
+    private void showException(String title, Map<String, Set<CheckerException>> excepctionMap, Color colorTextException, boolean tracked, long count){
         AnsiConsole.systemInstall();
         try {
             StringBuilder titleBuilder = new StringBuilder(title);
             String titleMessage = Ansi.ansi().bold().a(titleBuilder).reset().toString();
             System.out.println(titleMessage);
-            if(excepctionMap.values().stream().allMatch(Set::isEmpty)) {
+            if(!tracked && count > 0) {
+                String countMessage = Ansi.ansi().fg(colorTextException).bold().a(count).a(" (not recorded)").reset().toString();
+                System.out.println("\t" + countMessage);
+            } else if(excepctionMap.values().stream().allMatch(Set::isEmpty)) {
                 System.out.println("\t" + CLEAN_MESSAGE);
             } else {
                 excepctionMap.entrySet().stream()
@@ -220,6 +763,16 @@ public class ExceptionTracker  {
         AnsiConsole.systemUninstall();
     }
 
+    /**
+     * Extracts an immutable report of the checks of this tracker, which can be written as
+     * JSON Lines, plain text or ANSI text.
+     *
+     * @return a new ValidationReport
+     */
+    public ValidationReport toReport() {
+        return ValidationReport.of(this);
+    }
+
     /**
      * Displays all categories of exceptions: thrown, not thrown, and not checked.
      */
@@ -0,0 +1,257 @@
+package com.luchersol.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs I/O-bound checks, such as those of {@link com.luchersol.core.specialized_checkers.io.CheckerFile}
+ * or {@link com.luchersol.core.specialized_checkers.io.CheckerJson}, concurrently over many elements.
+ *
+ * <p>
+ * Checks run on virtual threads when the JDK provides them, or else on a pool of platform
+ * threads; in both cases at most {@code maxConcurrency} checks run at the same time. The
+ * tracker of every element, named {@code name[index]}, is merged into the resulting tracker
+ * in the order of the elements, whatever the order in which the checks completed.
+ *
+ * <p>
+ * A check that throws, either a failed check of a checker that does not save errors or an
+ * {@link java.io.IOException} while loading the element, is recorded as a thrown exception
+ * of its element.
+ *
+ * <p>
+ * This executor is the concurrent execution mode of the I/O checkers, rather than a mode
+ * switched on inside {@code CheckerFile} or {@code CheckerJson}. The checks of one chain run
+ * on one object and depend on each other, since a failed or not checked step decides whether
+ * the next ones run; only the chains of different objects are independent. So the unit
+ * dispatched to a thread is the whole chain of one element, written with the checkers as
+ * usual. To collect the results in the tracker of an existing checker, pass that tracker to
+ * {@link #checkAll(Iterable, String, Routine, ExceptionTracker)}.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * ExceptionTracker report = IoCheckExecutor.virtualThreads(256).checkAll(uploads, "uploads",
+ *     (file, name) -> CheckerFile.check(file, name).saveErrors().exists().canRead().min(1));
+ * report.show();
+ *
+ * // Into the tracker of an existing checker
+ * ExceptionTracker tracker = ExceptionTracker.empty("request");
+ * Checker<Request> checker = Checker.check(request, "request").setExceptionTracker(tracker).saveErrors();
+ * IoCheckExecutor.virtualThreads(256).checkAll(request.getUploads(), "request.uploads",
+ *     (file, name) -> CheckerFile.check(file, name).saveErrors().exists().canRead(), tracker);
+ * }</pre>
+ */
+public final class IoCheckExecutor {
+
+    /**
+     * Factory of virtual thread executors, or null if the JDK does not provide them.
+     */
+    private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    /**
+     * A check of one element.
+     *
+     * @param <T> the type of the element
+     */
+    @FunctionalInterface
+    public interface Routine<T> {
+
+        /**
+         * Checks an element.
+         *
+         * @param element the element to check
+         * @param name    the name of the element, {@code name[index]}
+         * @return the checker used, whose tracker holds the results, or null if there is none
+         * @throws Exception if the element cannot be checked
+         */
+        AbstractChecker<?, ?> check(T element, String name) throws Exception;
+
+    }
+
+    private final int maxConcurrency;
+    private final boolean virtual;
+
+    private IoCheckExecutor(int maxConcurrency, boolean virtual) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.virtual = virtual;
+    }
+
+    /**
+     * Creates an executor running checks on virtual threads, falling back to platform threads
+     * on JDKs without them.
+     *
+     * @param maxConcurrency the maximum number of checks running at the same time
+     * @return a new IoCheckExecutor
+     */
+    public static IoCheckExecutor virtualThreads(int maxConcurrency) {
+        return new IoCheckExecutor(maxConcurrency, NEW_VIRTUAL_THREAD_EXECUTOR != null);
+    }
+
+    /**
+     * Creates an executor running checks on a pool of platform threads.
+     *
+     * @param maxConcurrency the number of threads of the pool
+     * @return a new IoCheckExecutor
+     */
+    public static IoCheckExecutor platformThreads(int maxConcurrency) {
+        return new IoCheckExecutor(maxConcurrency, false);
+    }
+
+    /**
+     * Returns whether checks run on virtual threads.
+     *
+     * @return true if checks run on virtual threads
+     */
+    public boolean isVirtual() {
+        return this.virtual;
+    }
+
+    /**
+     * Checks every element and returns a tracker with their results.
+     *
+     * @param <T>      the type of the elements
+     * @param elements the elements to check
+     * @param name     the name of the batch
+     * @param routine  the check of one element
+     * @return a new tracker named after the batch, holding the tracker of every element
+     */
+    public <T> ExceptionTracker checkAll(Iterable<? extends T> elements, String name, Routine<? super T> routine) {
+        ExceptionTracker exceptionTracker = ExceptionTracker.empty(name);
+        checkAll(elements, name, routine, exceptionTracker);
+        return exceptionTracker;
+    }
+
+    /**
+     * Checks every element and merges their results into the given tracker, in element order.
+     *
+     * @param <T>              the type of the elements
+     * @param elements         the elements to check
+     * @param name             the name of the batch
+     * @param routine          the check of one element
+     * @param exceptionTracker the tracker receiving the results
+     */
+    public <T> void checkAll(Iterable<? extends T> elements, String name, Routine<? super T> routine, ExceptionTracker exceptionTracker) {
+        ExecutorService executor = newExecutor();
+        try {
+            Semaphore running = new Semaphore(this.maxConcurrency);
+            List<Future<ExceptionTracker>> results = new ArrayList<>();
+            int index = 0;
+            for (T element : elements) {
+                String elementName = name + "[" + index++ + "]";
+                running.acquireUninterruptibly();
+                try {
+                    results.add(executor.submit(() -> {
+                        try {
+                            return check(element, elementName, routine);
+                        } finally {
+                            running.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    running.release();
+                    throw e;
+                }
+            }
+
+            for (Future<ExceptionTracker> result : results) {
+                exceptionTracker.merge(join(result));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Runs the check of one element, recording what it throws.
+     *
+     * @param <T>     the type of the element
+     * @param element the element
+     * @param name    the name of the element
+     * @param routine the check
+     * @return the tracker of the element
+     */
+    private static <T> ExceptionTracker check(T element, String name, Routine<? super T> routine) {
+        try {
+            AbstractChecker<?, ?> checker = routine.check(element, name);
+            return checker == null ? ExceptionTracker.empty(name) : checker.exceptionTracker;
+        } catch (Exception e) {
+            ExceptionTracker exceptionTracker = ExceptionTracker.empty(name);
+            exceptionTracker.addThrownException(e);
+            return exceptionTracker;
+        }
+    }
+
+    private static ExceptionTracker join(Future<ExceptionTracker> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a check", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        if (this.virtual) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot create a virtual thread executor", e);
+            }
+        }
+        return Executors.newFixedThreadPool(this.maxConcurrency, new DaemonThreadFactory());
+    }
+
+    /**
+     * Looks up the factory of virtual thread executors, checking that it can be used, since
+     * on some JDKs virtual threads are a preview feature that must be enabled.
+     *
+     * @return the factory, or null if virtual threads are not available
+     */
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            MethodHandle factory = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+            ((ExecutorService) factory.invokeExact()).shutdown();
+            return factory;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the daemon platform threads of the fallback pool.
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL = new AtomicInteger();
+        private final int pool = POOL.incrementAndGet();
+        private final AtomicInteger thread = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "checker-io-" + this.pool + "-" + this.thread.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
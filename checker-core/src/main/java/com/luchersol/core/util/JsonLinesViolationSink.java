@@ -0,0 +1,89 @@
+package com.luchersol.core.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * {@link ViolationSink} writing one JSON object per violation and per line, with the fields
+ * {@code timestamp}, {@code subject}, {@code code} and {@code message}. Output is buffered and
+ * written once per batch of the pipeline.
+ */
+public final class JsonLinesViolationSink implements ViolationSink {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    private JsonLinesViolationSink(Writer writer) throws IOException {
+        this.generator = JSON.createGenerator(writer);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * Creates a sink appending to the given file, created if needed.
+     *
+     * @param path the file
+     * @return a new JsonLinesViolationSink
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonLinesViolationSink open(Path path) throws IOException {
+        return new JsonLinesViolationSink(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Creates a sink writing to the given writer, which is closed with the sink.
+     *
+     * @param writer the writer
+     * @return a new JsonLinesViolationSink
+     */
+    public static JsonLinesViolationSink of(Writer writer) {
+        try {
+            return new JsonLinesViolationSink(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(Violation violation) {
+        try {
+            this.generator.writeStartObject();
+            this.generator.writeNumberField("timestamp", violation.timestamp());
+            this.generator.writeStringField("subject", violation.subject());
+            this.generator.writeStringField("code", violation.code());
+            this.generator.writeStringField("message", violation.message());
+            this.generator.writeEndObject();
+            this.generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            this.generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
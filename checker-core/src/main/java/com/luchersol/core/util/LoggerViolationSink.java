@@ -0,0 +1,97 @@
+package com.luchersol.core.util;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ViolationSink} logging violations to a {@link System.Logger}, at most a given number
+ * per second. The violations beyond the limit are counted, and their number is logged when the
+ * next second starts or when the sink is closed.
+ */
+public final class LoggerViolationSink implements ViolationSink {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger;
+    private final int maxPerSecond;
+    private Level level = Level.WARNING;
+
+    private long windowStart = System.nanoTime();
+    private int windowCount;
+    private long windowSuppressed;
+    private volatile long suppressedCount;
+
+    private LoggerViolationSink(Logger logger, int maxPerSecond) {
+        this.logger = logger;
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * Creates a sink logging at {@link Level#WARNING}.
+     *
+     * @param logger       the logger
+     * @param maxPerSecond the maximum number of violations logged per second
+     * @return a new LoggerViolationSink
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public static LoggerViolationSink of(Logger logger, int maxPerSecond) {
+        if (maxPerSecond < 1) {
+            throw new IllegalArgumentException("maxPerSecond must be positive: " + maxPerSecond);
+        }
+        return new LoggerViolationSink(logger, maxPerSecond);
+    }
+
+    /**
+     * Sets the level at which violations are logged.
+     *
+     * @param level the level
+     * @return this sink
+     */
+    public LoggerViolationSink setLevel(Level level) {
+        this.level = level;
+        return this;
+    }
+
+    @Override
+    public void accept(Violation violation) {
+        if (!this.logger.isLoggable(this.level)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - this.windowStart >= WINDOW_NANOS) {
+            logSuppressed();
+            this.windowStart = now;
+            this.windowCount = 0;
+        }
+        if (this.windowCount < this.maxPerSecond) {
+            this.windowCount++;
+            this.logger.log(this.level, "{0}: {1}", violation.subject(), violation.message());
+        } else {
+            this.windowSuppressed++;
+            this.suppressedCount++;
+        }
+    }
+
+    private void logSuppressed() {
+        if (this.windowSuppressed > 0) {
+            this.logger.log(this.level, "{0} violations suppressed", this.windowSuppressed);
+            this.windowSuppressed = 0;
+        }
+    }
+
+    /**
+     * Returns the number of violations not logged because of the rate limit.
+     *
+     * @return the number of suppressed violations
+     */
+    public long getSuppressedCount() {
+        return this.suppressedCount;
+    }
+
+    @Override
+    public void close() {
+        logSuppressed();
+    }
+
+}
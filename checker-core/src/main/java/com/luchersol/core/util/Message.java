@@ -1,5 +1,8 @@
 package com.luchersol.core.util;
 
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
 import org.fusesource.jansi.Ansi;
 import org.fusesource.jansi.Ansi.Color;
 
@@ -11,9 +14,27 @@ import org.fusesource.jansi.Ansi.Color;
  * or associated with validation errors. Messages can be created from a
  * predefined code (with arguments) or directly from a string.
  *
+ * <p>
+ * Messages created from a code are lazy: only the code parts and the arguments are
+ * captured, and the text is looked up and formatted the first time it is requested.
+ * Checks that pass without being recorded therefore never pay for the resource bundle
+ * lookup nor the formatting.
+ *
  */
 public class Message {
 
+    /** Empty argument array shared by all messages without arguments. */
+    static final Object[] NO_ARGS = new Object[0];
+
+    /** Suffix appended to the code of a negated message. */
+    private static final String NEGATION_SUFFIX = ".__not";
+
+    /** The first part of the message code, used when the code is built lazily. */
+    private String init;
+
+    /** The last part of the message code, used when the code is built lazily. */
+    private String function;
+
     /** The message code, usually used as a key in message properties. */
     private String code;
 
@@ -23,6 +44,9 @@ public class Message {
     /** Optional arguments for formatting the message. */
     private Object[] args;
 
+    /** Whether the message has been negated. */
+    private boolean negated;
+
     /**
      * Constructs a new {@code Message} with the given code, message template, and arguments.
      *
@@ -38,14 +62,30 @@ public class Message {
 
     /**
      * Creates a new {@code Message} from a code and optional arguments.
-     * The text is retrieved from the message service.
+     * The text is retrieved from the message service when first requested.
      *
      * @param code the message code
      * @param args optional arguments for formatting
      * @return a new {@code Message} instance
      */
     public static Message ofCode(String code, Object... args){
-        return new Message(code, getText(code, args), args);
+        return new Message(code, null, args);
+    }
+
+    /**
+     * Creates a new lazy {@code Message} from the two parts of its code and optional arguments.
+     * Neither the code nor the text are built until they are requested.
+     *
+     * @param init     the initial part of the message code
+     * @param function the function or message type
+     * @param args     optional arguments for formatting
+     * @return a new {@code Message} instance
+     */
+    static Message ofParts(String init, String function, Object... args){
+        Message message = new Message(null, null, args);
+        message.init = init;
+        message.function = function;
+        return message;
     }
 
     /**
@@ -64,19 +104,78 @@ public class Message {
      * @return the code associated with this message, or {@code null} if none
      */
     public String getCode() {
+        String code = getBaseCode();
+        return this.negated && code != null ? code + NEGATION_SUFFIX : code;
+    }
+
+    /**
+     * Returns the message code without the negation suffix, joining its parts on first access.
+     *
+     * @return the base code of this message, or {@code null} if none
+     */
+    String getBaseCode() {
+        if (this.code == null && this.function != null) {
+            StringBuilder format = new StringBuilder(this.init);
+            if(!(this.init.endsWith(".") || this.function.startsWith(".")))
+                format.append(".");
+
+            this.code = format.append(this.function).toString();
+        }
         return this.code;
     }
 
+    /**
+     * Returns the first part of a code built lazily.
+     *
+     * @return the first part of the code, or {@code null} if the code was given whole
+     */
+    String getInit() {
+        return this.init;
+    }
+
+    /**
+     * Returns the last part of a code built lazily.
+     *
+     * @return the last part of the code, or {@code null} if the code was given whole
+     */
+    String getFunction() {
+        return this.function;
+    }
+
+    /**
+     * Returns the arguments used to format the message.
+     *
+     * @return the message arguments
+     */
+    public Object[] getArgs() {
+        return this.args;
+    }
+
+    /**
+     * Returns whether this message is the negated form of its code.
+     *
+     * @return {@code true} if the message has been negated
+     */
+    public boolean isNegated() {
+        return this.negated;
+    }
+
     /**
      * Formats the message text for the given code using the provided arguments.
+     * If the arguments do not match the template, the standard error message is returned.
      *
-     * @param code the message code to retrieve from the message service
-     * @param args the arguments to format the message
+     * @param code    the message code to retrieve from the message service
+     * @param negated whether the negated form of the code is used
+     * @param locale  the locale of the message
+     * @param args    the arguments to format the message
      * @return the formatted message string
      */
-    private static String getText(String code, Object... args){
-        String format = MessageService.getProperty(code);
-        return args.length == 0 ? format : String.format(format, args);
+    private static String getText(String code, boolean negated, Locale locale, Object... args){
+        try {
+            return MessageService.format(code, negated, locale, args);
+        } catch (IllegalFormatException e) {
+            return getErrorMessage().getMessage();
+        }
     }
 
     /**
@@ -91,23 +190,44 @@ public class Message {
     }
 
     /**
-     * Returns the formatted message string.
+     * Returns the formatted message string, building it on first access with the
+     * locale of the current thread.
      *
      * @return the message text
      */
     public String getMessage() {
+        if (this.message == null) {
+            String code = getBaseCode();
+            if (code != null)
+                this.message = getText(code, this.negated, MessageService.getLocale(), args);
+        }
         return this.message;
     }
 
     /**
-     * Returns a negated version of this message by appending ".__not" to the code
-     * and reformatting the message accordingly.
+     * Returns the message string formatted for the given locale.
+     * Literal messages are returned unchanged.
+     *
+     * @param locale the locale of the message
+     * @return the message text in the given locale
+     */
+    public String getMessage(Locale locale) {
+        String code = getBaseCode();
+        return code == null ? this.message : getText(code, this.negated, locale, args);
+    }
+
+    /**
+     * Returns a negated version of this message by appending ".__not" to the code.
+     * The text is reformatted lazily on next access. Literal messages, which have no
+     * code, are left unchanged.
      *
      * @return this {@code Message} instance after negation
      */
     public Message negate() {
-        this.code += ".__not";
-        this.message = getText(code, args);
+        if (this.code != null || this.function != null) {
+            this.negated = !this.negated;
+            this.message = null;
+        }
         return this;
     }
 }
@@ -1,18 +1,39 @@
 package com.luchersol.core.util;
 
+import java.util.HashMap;
 import java.util.Locale;
-import java.util.MissingFormatArgumentException;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.fusesource.jansi.Ansi;
 
 /**
  * Message provides utility methods for retrieving and formatting localized messages from a properties file.
  * It supports colored output using Jansi and handles missing format arguments gracefully.
+ *
+ * <p>
+ * The messages of each locale are loaded once and every template, together with its negated
+ * {@code .__not} form, is preparsed into a {@link MessageTemplate}. The locale used to render
+ * messages can be selected per thread with {@link #setLocale(Locale)}, falling back to
+ * {@link Locale#getDefault()}, or per call with the methods taking a {@link Locale}.
  */
 public class MessageService {
 
     private static final String BASENAME = "messages";
+    private static final String NEGATION_SUFFIX = ".__not";
+    private static final String DEFAULT_MESSAGE = "default_message";
+
+    /**
+     * Preparsed templates per locale, keyed by message code. Each entry holds the
+     * template of the code and the template of its negated form.
+     */
+    private static final Map<Locale, Map<String, MessageTemplate[]>> TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * Locale selected for the current thread, if any.
+     */
+    private static final ThreadLocal<Locale> THREAD_LOCALE = new ThreadLocal<>();
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -21,7 +42,37 @@ public class MessageService {
     }
 
     /**
-     * Retrieves the message text for the given key using the default locale.
+     * Selects the locale used to render messages in the current thread.
+     *
+     * @param locale the locale to use, or {@code null} to use the default locale
+     */
+    public static void setLocale(Locale locale) {
+        if (locale == null) {
+            THREAD_LOCALE.remove();
+        } else {
+            THREAD_LOCALE.set(locale);
+        }
+    }
+
+    /**
+     * Removes the locale selected for the current thread, restoring the default locale.
+     */
+    public static void clearLocale() {
+        THREAD_LOCALE.remove();
+    }
+
+    /**
+     * Returns the locale used to render messages in the current thread.
+     *
+     * @return the locale of the current thread, or {@link Locale#getDefault()} if none was selected
+     */
+    public static Locale getLocale() {
+        Locale locale = THREAD_LOCALE.get();
+        return locale == null ? Locale.getDefault() : locale;
+    }
+
+    /**
+     * Retrieves the message text for the given key using the locale of the current thread.
      *
      * <p>
      * If the key is not found in the resource bundle, a default colored warning message
@@ -32,7 +83,7 @@ public class MessageService {
      * @return the message string for the given key, or a default colored message if not found
      */
     public static String getProperty(String key) {
-        return getProperty(key, Locale.getDefault());
+        return getProperty(key, getLocale());
     }
 
     /**
@@ -48,16 +99,63 @@ public class MessageService {
      * @return the message string for the given key and locale, or a default colored message if not found
      */
     public static String getProperty(String key, Locale locale) {
-        ResourceBundle bundle = ResourceBundle.getBundle(BASENAME, locale);
-        try {
-            return bundle.getString(key);
-        } catch (Exception e) {
-            return Ansi.ansi()
-                    .fgBrightYellow().bold()
-                    .a(getProperty("default_message").formatted(key))
-                    .reset().toString();
+        boolean negated = key.endsWith(NEGATION_SUFFIX);
+        String code = negated ? key.substring(0, key.length() - NEGATION_SUFFIX.length()) : key;
+        return getTemplate(code, negated, locale).getPattern();
+    }
+
+    /**
+     * Formats the message of the given code with the preparsed template of the locale.
+     *
+     * @param code    the message code, without the negation suffix
+     * @param negated whether the negated form of the message is formatted
+     * @param locale  the locale to use
+     * @param args    the arguments to format the message
+     * @return the formatted message
+     * @throws java.util.IllegalFormatException if the arguments do not match the template
+     */
+    static String format(String code, boolean negated, Locale locale, Object... args) {
+        return getTemplate(code, negated, locale).format(locale, args);
+    }
+
+    /**
+     * Returns the preparsed template for the given code, loading the messages of the locale
+     * on first use.
+     *
+     * @param code    the message code, without the negation suffix
+     * @param negated whether the template of the negated form is returned
+     * @param locale  the locale to use
+     * @return the template, or a literal warning template if the key is not found
+     */
+    private static MessageTemplate getTemplate(String code, boolean negated, Locale locale) {
+        MessageTemplate[] templates = TEMPLATES.computeIfAbsent(locale, MessageService::loadTemplates).get(code);
+        MessageTemplate template = templates == null ? null : templates[negated ? 1 : 0];
+        if (template != null) {
+            return template;
         }
 
+        String key = negated ? code + NEGATION_SUFFIX : code;
+        return MessageTemplate.literal(Ansi.ansi()
+                .fgBrightYellow().bold()
+                .a(getProperty(DEFAULT_MESSAGE, locale).formatted(key))
+                .reset().toString());
+    }
+
+    /**
+     * Loads and preparses every message of the resource bundle for the given locale.
+     *
+     * @param locale the locale to load
+     * @return the templates keyed by message code
+     */
+    private static Map<String, MessageTemplate[]> loadTemplates(Locale locale) {
+        ResourceBundle bundle = ResourceBundle.getBundle(BASENAME, locale);
+        Map<String, MessageTemplate[]> templates = new HashMap<>();
+        for (String key : bundle.keySet()) {
+            boolean negated = key.endsWith(NEGATION_SUFFIX);
+            String code = negated ? key.substring(0, key.length() - NEGATION_SUFFIX.length()) : key;
+            templates.computeIfAbsent(code, k -> new MessageTemplate[2])[negated ? 1 : 0] = MessageTemplate.compile(bundle.getString(key));
+        }
+        return templates;
     }
 
 
@@ -69,13 +167,17 @@ public class MessageService {
      * @return the formatted message string
      */
     public static Message sendMessage(String init, String function){
-        return sendMessage(init, function, new Object[]{});
+        return sendMessage(init, function, Message.NO_ARGS);
     }
 
 
     /**
      * Sends a formatted message for the given initial key, function, and arguments.
-     * Handles missing format arguments gracefully with a colored error message.
+     *
+     * <p>
+     * The returned message is lazy: the key is not joined, looked up nor formatted until
+     * its text is requested, which only happens when a check fails or is recorded.
+     * Missing format arguments are handled gracefully with a colored error message.
      *
      * @param init     the initial part of the message key
      * @param function the function or message type
@@ -83,17 +185,7 @@ public class MessageService {
      * @return the formatted message string, or a colored error message if formatting fails
      */
     public static Message sendMessage(String init, String function, Object... args){
-        try {
-            StringBuilder format = new StringBuilder(init);
-            if(!(init.endsWith(".") || function.startsWith(".")))
-                format.append(".");
-
-            format.append(function);
-            return Message.ofCode(format.toString(), args);
-        } catch (MissingFormatArgumentException e) {
-            return Message.getErrorMessage();
-        }
-
+        return Message.ofParts(init, function, args);
     }
 
 }
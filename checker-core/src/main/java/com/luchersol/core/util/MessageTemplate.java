@@ -0,0 +1,200 @@
+package com.luchersol.core.util;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * MessageTemplate is a message format string parsed once into literal segments and
+ * format specifiers, so that it can be formatted many times without re-parsing it.
+ *
+ * <p>
+ * Plain {@code %s} and {@code %d} specifiers are rendered directly; any other specifier
+ * (e.g., {@code %.2f}) is delegated to {@link String#format(Locale, String, Object...)}
+ * for that single argument, keeping the same output and errors as formatting the whole
+ * template with {@code String.format}. Since {@code %d} renders the digits of the locale,
+ * it is only rendered directly for locales whose zero digit is {@code '0'}.
+ */
+final class MessageTemplate {
+
+    /**
+     * Regular expression matching a {@link java.util.Formatter} specifier.
+     */
+    private static final Pattern SPECIFIER = Pattern.compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+    /**
+     * Whether each locale formats integers with the digits {@code 0} to {@code 9}.
+     */
+    private static final Map<Locale, Boolean> ASCII_DIGITS = new ConcurrentHashMap<>();
+
+    /**
+     * The original format string.
+     */
+    private final String pattern;
+
+    /**
+     * Literal text preceding each specifier, plus the trailing literal text.
+     */
+    private final String[] literals;
+
+    /**
+     * The specifiers of the template, in order of appearance.
+     */
+    private final Specifier[] specifiers;
+
+    /**
+     * If true, the template uses features that are not preparsed and is formatted as a whole.
+     */
+    private final boolean fallback;
+
+    /**
+     * A single format specifier.
+     *
+     * @param spec     the specifier text without explicit index
+     * @param index    the index of the argument it consumes
+     * @param simple   whether it is a plain {@code %s} or {@code %d}
+     */
+    private record Specifier(String spec, int index, boolean simple) {
+    }
+
+    private MessageTemplate(String pattern, String[] literals, Specifier[] specifiers, boolean fallback) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.specifiers = specifiers;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Parses the given format string into a template.
+     *
+     * @param pattern the format string
+     * @return the compiled template
+     */
+    static MessageTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Specifier> specifiers = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        Matcher matcher = SPECIFIER.matcher(pattern);
+        int last = 0;
+        int ordinary = 0;
+
+        while (matcher.find()) {
+            literal.append(pattern, last, matcher.start());
+            last = matcher.end();
+            String conversion = matcher.group(6);
+            String flags = matcher.group(2);
+
+            if ("%".equals(conversion) && matcher.group(3) == null) {
+                literal.append('%');
+                continue;
+            }
+            if ("n".equals(conversion) || (flags != null && flags.contains("<"))) {
+                return new MessageTemplate(pattern, null, null, true);
+            }
+
+            String explicitIndex = matcher.group(1);
+            int index = explicitIndex == null
+                    ? ordinary++
+                    : Integer.parseInt(explicitIndex.substring(0, explicitIndex.length() - 1)) - 1;
+            String spec = explicitIndex == null
+                    ? matcher.group()
+                    : "%" + matcher.group().substring(1 + explicitIndex.length());
+            boolean simple = spec.equals("%s") || spec.equals("%d");
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            specifiers.add(new Specifier(spec, index, simple));
+        }
+        literal.append(pattern, last, pattern.length());
+        literals.add(literal.toString());
+
+        return new MessageTemplate(pattern, literals.toArray(String[]::new), specifiers.toArray(Specifier[]::new), false);
+    }
+
+    /**
+     * Creates a template that always renders the given text, without interpreting specifiers.
+     *
+     * @param text the literal text
+     * @return the literal template
+     */
+    static MessageTemplate literal(String text) {
+        return new MessageTemplate(text, new String[]{ text }, new Specifier[0], false);
+    }
+
+    /**
+     * Returns the original format string.
+     *
+     * @return the format string
+     */
+    String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Formats the template with the given arguments.
+     * As with the previous behavior, a template formatted without arguments is returned as is.
+     *
+     * @param locale the locale used for locale-sensitive specifiers
+     * @param args   the arguments
+     * @return the formatted text
+     * @throws java.util.IllegalFormatException if the arguments do not match the template
+     */
+    String format(Locale locale, Object... args) {
+        if (args.length == 0) {
+            return this.pattern;
+        }
+        if (this.fallback) {
+            return String.format(locale, this.pattern, args);
+        }
+
+        StringBuilder text = new StringBuilder(this.pattern.length() + 16 * this.specifiers.length);
+        for (int i = 0; i < this.specifiers.length; i++) {
+            Specifier specifier = this.specifiers[i];
+            text.append(this.literals[i]);
+            if (specifier.index() >= args.length) {
+                throw new MissingFormatArgumentException(specifier.spec());
+            }
+            Object arg = args[specifier.index()];
+            if (specifier.simple() && isDirect(specifier.spec(), arg, locale)) {
+                text.append(arg);
+            } else {
+                text.append(String.format(locale, specifier.spec(), arg));
+            }
+        }
+        return text.append(this.literals[this.specifiers.length]).toString();
+    }
+
+    /**
+     * Returns whether the argument can be appended directly for the given plain specifier.
+     *
+     * @param spec   the plain specifier, {@code %s} or {@code %d}
+     * @param arg    the argument
+     * @param locale the locale used for locale-sensitive specifiers
+     * @return true if the argument can be appended directly
+     */
+    private static boolean isDirect(String spec, Object arg, Locale locale) {
+        if (spec.equals("%s")) {
+            return arg == null || arg instanceof String || arg instanceof Number || arg instanceof Boolean || arg instanceof Character;
+        }
+        return (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte)
+                && hasAsciiDigits(locale);
+    }
+
+    /**
+     * Returns whether the given locale formats integers with the digits {@code 0} to {@code 9},
+     * as {@link java.util.Formatter} does for a null locale.
+     *
+     * @param locale the locale, or null
+     * @return true if the locale uses ASCII digits
+     */
+    private static boolean hasAsciiDigits(Locale locale) {
+        return locale == null || ASCII_DIGITS.computeIfAbsent(locale, key -> DecimalFormatSymbols.getInstance(key).getZeroDigit() == '0');
+    }
+
+}
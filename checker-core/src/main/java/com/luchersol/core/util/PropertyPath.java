@@ -0,0 +1,406 @@
+package com.luchersol.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+/**
+ * A property path of {@link AbstractChecker#checkProperty(String, Object...)} parsed once,
+ * whose fields and methods are resolved once per runtime class into cached method handles.
+ *
+ * <p>
+ * Resolution follows {@link AbstractChecker#getProperty(Object, java.util.Queue, Object)}: each
+ * segment is read as a declared field of the runtime class of the current object or, if there
+ * is no such field, invoked as a declared method whose parameter types are the classes of the
+ * given arguments. A null value ends the path with null, and a method that cannot be found or
+ * invoked yields null.
+ */
+final class PropertyPath {
+
+    /**
+     * Maximum number of parsed paths kept, so that paths built at runtime cannot grow the cache forever.
+     */
+    private static final int MAX_CACHED_PATHS = 1024;
+
+    private static final Map<String, PropertyPath> PATHS = new ConcurrentHashMap<>();
+
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return new Accessors(type);
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Marks a field or method that does not exist in a class.
+     */
+    private static final Object MISSING = new Object();
+
+    /**
+     * The segments of the path, split on the dots outside parentheses.
+     */
+    private final String[] segments;
+
+    /**
+     * The method call of each segment, or null if the segment is not a method call.
+     */
+    private final Call[] calls;
+
+    /**
+     * The content of each pair of parentheses of the path.
+     */
+    private final String[] groups;
+
+    /**
+     * Number of arguments of the path when they are numbered, e.g. {@code get(1)}.
+     */
+    private final int numberedArgs;
+
+    /**
+     * Whether every group is a number, so that {@link #numberedArgs} is valid.
+     */
+    private final boolean numbered;
+
+    /**
+     * Number of arguments of the path when they are named, e.g. {@code get(key)}.
+     */
+    private final int namedArgs;
+
+    /**
+     * A method call segment.
+     *
+     * @param function   the name of the method
+     * @param nameParams the names of the parameters, if they are named
+     * @param numParams  the number of parameters, if they are numbered, or -1 if invalid
+     * @param byName     whether the parameters are named
+     */
+    private record Call(String function, String[] nameParams, int numParams, boolean byName) {
+    }
+
+    /**
+     * The key of a method in the accessors of a class.
+     *
+     * @param name  the name of the method
+     * @param types the parameter types of the method
+     */
+    private record MethodKey(String name, List<Class<?>> types) {
+    }
+
+    private PropertyPath(String path) {
+        this.segments = AbstractChecker.POINT_PROPERTIES.split(path);
+        this.calls = new Call[this.segments.length];
+        for (int i = 0; i < this.segments.length; i++) {
+            this.calls[i] = parseCall(this.segments[i]);
+        }
+
+        Matcher matcher = AbstractChecker.PARENTHESIS.matcher(path);
+        List<String> groups = new ArrayList<>();
+        while (matcher.find()) {
+            groups.add(matcher.group(1));
+        }
+        this.groups = groups.toArray(String[]::new);
+
+        int numberedArgs = 0;
+        boolean numbered = true;
+        int namedArgs = 0;
+        for (String group : this.groups) {
+            if (!group.isBlank()) {
+                namedArgs += group.split(",").length;
+                try {
+                    numberedArgs += Integer.parseInt(group);
+                } catch (NumberFormatException e) {
+                    numbered = false;
+                }
+            }
+        }
+        this.numberedArgs = numberedArgs;
+        this.numbered = numbered;
+        this.namedArgs = namedArgs;
+    }
+
+    /**
+     * Returns the parsed form of the given path, parsing it on first use.
+     *
+     * @param path the property path
+     * @return the parsed path
+     */
+    static PropertyPath of(String path) {
+        PropertyPath compiled = PATHS.get(path);
+        if (compiled == null) {
+            compiled = new PropertyPath(path);
+            if (PATHS.size() < MAX_CACHED_PATHS) {
+                PATHS.putIfAbsent(path, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Returns the number of arguments of the path, reading each group of parentheses as a number.
+     *
+     * @return the number of arguments
+     * @throws NumberFormatException if a group is not a number
+     */
+    int countNumberedArgs() {
+        if (!this.numbered) {
+            for (String group : this.groups) {
+                if (!group.isBlank()) {
+                    Integer.valueOf(group);
+                }
+            }
+        }
+        return this.numberedArgs;
+    }
+
+    /**
+     * Returns the number of arguments of the path, reading each group of parentheses as a list of names.
+     *
+     * @return the number of arguments
+     */
+    int countNamedArgs() {
+        return this.namedArgs;
+    }
+
+    /**
+     * Resolves the path on the given object.
+     *
+     * @param object the object to inspect
+     * @param params the arguments of the methods: an array consumed in order, a list of
+     *               argument-value and class pairs, or a map of named arguments
+     * @return the value of the property
+     * @throws Exception if a field cannot be read
+     */
+    Object resolve(Object object, Object params) throws Exception {
+        return resolve(object, 0, params instanceof Object[] array ? new Cursor(array) : params);
+    }
+
+    private Object resolve(Object object, int index, Object params) throws Exception {
+        Accessors accessors = ACCESSORS.get(object.getClass());
+        MethodHandle field = accessors.field(this.segments[index]);
+        if (field == null) {
+            return invoke(object, index, params, accessors);
+        }
+
+        Object value;
+        try {
+            value = (Object) field.invokeExact(object);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return next(value, index, params);
+    }
+
+    private Object next(Object value, int index, Object params) throws Exception {
+        return value == null ? null : index == this.segments.length - 1 ? value : resolve(value, index + 1, params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invoke(Object object, int index, Object params, Accessors accessors) {
+        try {
+            Call call = this.calls[index];
+            if (call == null) {
+                return null;
+            }
+
+            Object[] args;
+            Class<?>[] parameterTypes;
+            if (call.byName()) {
+                String[] nameParams = call.nameParams();
+                args = new Object[nameParams.length];
+                parameterTypes = new Class<?>[nameParams.length];
+                if (nameParams.length > 0) {
+                    if (!(params instanceof Map)) {
+                        return null;
+                    }
+                    Map<String, Object> paramMap = (Map<String, Object>) params;
+                    for (int i = 0; i < nameParams.length; i++) {
+                        args[i] = paramMap.get(nameParams[i]);
+                        parameterTypes[i] = args[i] == null ? Object.class : args[i].getClass();
+                    }
+                }
+            } else {
+                int numParams = call.numParams();
+                if (numParams < 0) {
+                    return null;
+                }
+                args = new Object[numParams];
+                parameterTypes = new Class<?>[numParams];
+                if (numParams > 0) {
+                    if (params instanceof Cursor cursor) {
+                        for (int i = 0; i < numParams; i++) {
+                            args[i] = cursor.poll();
+                            parameterTypes[i] = args[i] == null ? Object.class : args[i].getClass();
+                        }
+                    } else if (params instanceof List) {
+                        List<Entry<Object, Class<?>>> paramList = (List<Entry<Object, Class<?>>>) params;
+                        for (int i = 0; i < numParams; i++) {
+                            Entry<Object, Class<?>> entry = paramList.get(i);
+                            args[i] = entry.getKey();
+                            parameterTypes[i] = entry.getValue();
+                        }
+                    } else {
+                        return null;
+                    }
+                }
+            }
+
+            MethodHandle method = accessors.method(call.function(), parameterTypes);
+            if (method == null) {
+                return null;
+            }
+
+            Object result;
+            try {
+                result = (Object) method.invokeExact(object, args);
+            } catch (Throwable e) {
+                return null;
+            }
+            return next(result, index, params);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a segment as a method call with named or numbered parameters.
+     *
+     * @param segment the segment
+     * @return the method call, or null if the segment is not a method call
+     */
+    private static Call parseCall(String segment) {
+        Matcher nameMatcher = AbstractChecker.METHOD_BY_NAME_PARAMS.matcher(segment);
+        if (nameMatcher.find()) {
+            String nameParams = nameMatcher.group("nameParams");
+            return new Call(nameMatcher.group("function"),
+                    nameParams == null ? new String[]{} : nameParams.split(","), 0, true);
+        }
+
+        Matcher numberMatcher = AbstractChecker.METHOD_BY_NUMBER_PARAMS.matcher(segment);
+        if (numberMatcher.find()) {
+            String numParams = numberMatcher.group("numParams");
+            int count;
+            try {
+                count = numParams == null ? 0 : Integer.parseInt(numParams);
+            } catch (NumberFormatException e) {
+                count = -1;
+            }
+            return new Call(numberMatcher.group("function"), null, count, false);
+        }
+
+        return null;
+    }
+
+    /**
+     * Arguments consumed in order by the methods of a path.
+     */
+    private static final class Cursor {
+
+        private final Object[] values;
+        private int position;
+
+        private Cursor(Object[] values) {
+            this.values = values;
+        }
+
+        private Object poll() {
+            return this.position < this.values.length ? this.values[this.position++] : null;
+        }
+
+    }
+
+    /**
+     * The resolved fields and methods of one class, as handles of type
+     * {@code (Object)Object} and {@code (Object, Object[])Object}.
+     */
+    private static final class Accessors {
+
+        private final Class<?> type;
+        private final Map<String, Object> fields = new ConcurrentHashMap<>();
+        private final Map<MethodKey, Object> methods = new ConcurrentHashMap<>();
+
+        private Accessors(Class<?> type) {
+            this.type = type;
+        }
+
+        /**
+         * Returns the getter of the declared field with the given name.
+         *
+         * @param name the name of the field
+         * @return the getter, or null if the class declares no such field
+         * @throws IllegalAccessException if the field cannot be read
+         */
+        MethodHandle field(String name) throws IllegalAccessException {
+            Object handle = this.fields.get(name);
+            if (handle == null) {
+                handle = findField(name);
+                this.fields.putIfAbsent(name, handle);
+            }
+            return handle == MISSING ? null : (MethodHandle) handle;
+        }
+
+        /**
+         * Returns the invoker of the declared method with the given name and parameter types.
+         *
+         * @param name  the name of the method
+         * @param types the parameter types
+         * @return the invoker, or null if the class declares no such method
+         * @throws IllegalAccessException if the method cannot be accessed
+         */
+        MethodHandle method(String name, Class<?>[] types) throws IllegalAccessException {
+            MethodKey key = new MethodKey(name, List.of(types));
+            Object handle = this.methods.get(key);
+            if (handle == null) {
+                handle = findMethod(name, types);
+                this.methods.putIfAbsent(key, handle);
+            }
+            return handle == MISSING ? null : (MethodHandle) handle;
+        }
+
+        private Object findField(String name) throws IllegalAccessException {
+            Field field;
+            try {
+                field = this.type.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                return MISSING;
+            }
+            field.setAccessible(true);
+            MethodHandle getter = LOOKUP.unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(GETTER_TYPE);
+        }
+
+        private Object findMethod(String name, Class<?>[] types) throws IllegalAccessException {
+            Method method;
+            try {
+                method = this.type.getDeclaredMethod(name, types);
+            } catch (NoSuchMethodException e) {
+                return MISSING;
+            }
+            method.setAccessible(true);
+            MethodHandle invoker = LOOKUP.unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                invoker = MethodHandles.dropArguments(invoker, 0, Object.class);
+            }
+            return invoker.asType(MethodType.genericMethodType(types.length + 1))
+                    .asSpreader(Object[].class, types.length);
+        }
+
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.luchersol.core.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RuleSet} backed by a rule file, recompiled and swapped in whenever the file changes.
+ *
+ * <p>
+ * The rules in use are held in a single volatile reference: every validation reads it once
+ * and runs to the end with the rules it read, so a reload never affects validations in
+ * flight and never exposes a partially compiled rule set. If the new file cannot be read or
+ * compiled, the previous rules stay in use and the error is kept in {@link #getLastError()}.
+ * This includes any other exception or error thrown while the watcher reloads the file,
+ * which keeps watching it.
+ *
+ * <p>
+ * Changes are detected by a daemon thread watching the directory of the file. Events are
+ * coalesced for {@link #SETTLE_MILLIS} before reloading, but a file written in place may still
+ * be read half written; replace it atomically (write a sibling file, then move it over the
+ * rule file) so every reload sees a complete file. {@link #reload()} can also be called
+ * directly, for instance on file systems without change notifications.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * try (ReloadingRuleSet rules = ReloadingRuleSet.watch(Path.of("user-rules.yaml"))) {
+ *     ValidationResult result = rules.validate(user, "user");
+ * }
+ * }</pre>
+ */
+public final class ReloadingRuleSet implements AutoCloseable {
+
+    /**
+     * Time to wait for further changes of the file before reloading it, in milliseconds.
+     */
+    public static final long SETTLE_MILLIS = 50;
+
+    private final Path path;
+    private final WatchService watchService;
+    private final Thread watcher;
+
+    private volatile RuleSet current;
+    private volatile String currentSource;
+    private volatile long version;
+    private volatile Throwable lastError;
+
+    private ReloadingRuleSet(Path path, String source, RuleSet rules, WatchService watchService) {
+        this.path = path;
+        this.currentSource = source;
+        this.current = rules;
+        this.version = 1;
+        this.watchService = watchService;
+        this.watcher = new Thread(this::watchLoop, "rule-set-watcher-" + path.getFileName());
+        this.watcher.setDaemon(true);
+    }
+
+    /**
+     * Compiles the given rule file and starts watching it for changes.
+     *
+     * @param path the rule file
+     * @return a new ReloadingRuleSet
+     * @throws IOException              if the file cannot be read or watched
+     * @throws IllegalArgumentException if the file or a rule is invalid
+     */
+    public static ReloadingRuleSet watch(Path path) throws IOException {
+        Path file = path.toAbsolutePath();
+        String source = Files.readString(file, StandardCharsets.UTF_8);
+        RuleSet rules = RuleSet.parse(source, RuleSet.formatOf(file));
+
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        try {
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        ReloadingRuleSet reloading = new ReloadingRuleSet(file, source, rules, watchService);
+        reloading.watcher.start();
+        return reloading;
+    }
+
+    private void watchLoop() {
+        Path name = this.path.getFileName();
+        try {
+            boolean changed = false;
+            while (true) {
+                WatchKey key = changed ? this.watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS) : this.watchService.take();
+                if (key == null) {
+                    changed = false;
+                    try {
+                        reload();
+                    } catch (RuntimeException | Error e) {
+                        this.lastError = e;
+                    }
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || name.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Reads and recompiles the rule file, swapping the new rules in if the file changed and
+     * compiles. On failure the current rules are kept. A file equal to the current rules, for
+     * instance a broken file reverted, clears the error of the last reload.
+     *
+     * @return true if new rules were swapped in
+     */
+    public synchronized boolean reload() {
+        try {
+            String source = Files.readString(this.path, StandardCharsets.UTF_8);
+            if (source.equals(this.currentSource)) {
+                this.lastError = null;
+                return false;
+            }
+            RuleSet rules = RuleSet.parse(source, RuleSet.formatOf(this.path));
+            this.currentSource = source;
+            this.current = rules;
+            this.lastError = null;
+            this.version++;
+            return true;
+        } catch (IOException e) {
+            this.lastError = new UncheckedIOException(e);
+        } catch (IllegalArgumentException e) {
+            this.lastError = e;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the rules in use, to run several validations against the same version.
+     *
+     * @return the current rule set
+     */
+    public RuleSet current() {
+        return this.current;
+    }
+
+    /**
+     * Applies the current rules to the given object, throwing on the first failed check.
+     *
+     * @param subject the object to validate
+     * @param name    the name of the object
+     * @throws CheckerException if a check fails
+     * @see RuleSet#check(Object, String)
+     */
+    public void check(Object subject, String name) {
+        this.current.check(subject, name);
+    }
+
+    /**
+     * Applies the current rules to the given object, saving the result of every check in the
+     * given tracker.
+     *
+     * @param subject the object to validate
+     * @param name    the name of the object
+     * @param tracker the tracker that receives the results
+     * @return true if no check failed
+     * @see RuleSet#check(Object, String, ExceptionTracker)
+     */
+    public boolean check(Object subject, String name, ExceptionTracker tracker) {
+        return this.current.check(subject, name, tracker);
+    }
+
+    /**
+     * Applies the current rules to the given object without throwing.
+     *
+     * @param subject the object to validate
+     * @param name    the name of the object
+     * @return the result of the rules
+     * @see RuleSet#validate(Object, String)
+     */
+    public ValidationResult validate(Object subject, String name) {
+        return this.current.validate(subject, name);
+    }
+
+    /**
+     * Applies the current rules to the given object without recording anything.
+     *
+     * @param subject the object to validate
+     * @return true if every check passed
+     */
+    public boolean test(Object subject) {
+        return this.current.test(subject);
+    }
+
+    /**
+     * Returns the watched rule file.
+     *
+     * @return the absolute path of the file
+     */
+    public Path getPath() {
+        return this.path;
+    }
+
+    /**
+     * Returns the version of the rules in use, starting at 1 and increased by every reload
+     * that swapped new rules in.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the error of the last reload, if it failed.
+     *
+     * @return the error, or null if the last reload succeeded
+     */
+    public Throwable getLastError() {
+        return this.lastError;
+    }
+
+    /**
+     * Stops watching the rule file. The current rules remain usable.
+     */
+    @Override
+    public void close() {
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.watcher.interrupt();
+    }
+
+}
@@ -0,0 +1,610 @@
+package com.luchersol.core.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.TypeVariable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+import com.luchersol.core.specialized_checkers.collection.CheckerList;
+import com.luchersol.core.specialized_checkers.collection.CheckerMap;
+import com.luchersol.core.specialized_checkers.collection.CheckerSet;
+import com.luchersol.core.specialized_checkers.math.numbers.decimalTypes.CheckerDouble;
+import com.luchersol.core.specialized_checkers.math.numbers.integerTypes.CheckerInteger;
+import com.luchersol.core.specialized_checkers.math.numbers.integerTypes.CheckerLong;
+
+/**
+ * Compiles the rule expressions of a {@link RuleSet}, such as {@code string.inRange(3, 40)}
+ * or {@code integer.isPositive}, into {@link CheckerSpec}s.
+ *
+ * <p>
+ * An expression names a checker type and a chain of its methods, each with literal arguments:
+ * numbers, quoted strings, booleans or {@code null}. Methods are resolved once, picking the
+ * overload that needs the fewest conversions, and bound to their arguments as method handles,
+ * so applying a compiled rule does no parsing nor reflective lookup.
+ */
+final class RuleCompiler {
+
+    /**
+     * Expression checking that the property is present.
+     */
+    static final String REQUIRED = "required";
+
+    private static final String INIT_RULES = "rules";
+
+    /**
+     * Methods that configure a checker rather than check its object.
+     */
+    private static final Set<String> EXCLUDED_METHODS = Set.of("rebind", "saveErrors", "notSaveErrors", "end", "show", "toChecker", "updateChecker");
+
+    private static final Object NOT_CONVERTIBLE = new Object();
+
+    private static final MethodType CHAIN_STEP = MethodType.methodType(Object.class, Object.class);
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    /**
+     * A checker type of the rule language.
+     *
+     * @param valueClass   the class of the values checked by the type
+     * @param checkerClass the class of the checker
+     * @param converter    converts a value to the class of the type, or returns {@link #NOT_CONVERTIBLE}
+     * @param factory      creates the checker of a value
+     */
+    private record RuleType(Class<?> valueClass, Class<?> checkerClass, Function<Object, Object> converter,
+            BiFunction<Object, String, AbstractChecker<?, ?>> factory) {}
+
+    @SuppressWarnings("unchecked")
+    private static final Map<String, RuleType> TYPES = Map.of(
+            "object", new RuleType(Object.class, Checker.class, value -> value, Checker::check),
+            "string", new RuleType(String.class, CheckerString.class, value -> instance(value, String.class),
+                    (value, name) -> CheckerString.check((String) value, name)),
+            "integer", new RuleType(Integer.class, CheckerInteger.class, RuleCompiler::toInteger,
+                    (value, name) -> CheckerInteger.check((Integer) value, name)),
+            "long", new RuleType(Long.class, CheckerLong.class, RuleCompiler::toLong,
+                    (value, name) -> CheckerLong.check((Long) value, name)),
+            "double", new RuleType(Double.class, CheckerDouble.class, RuleCompiler::toDouble,
+                    (value, name) -> CheckerDouble.check((Double) value, name)),
+            "list", new RuleType(List.class, CheckerList.class, value -> instance(value, List.class),
+                    (value, name) -> CheckerList.check((List<Object>) value, name)),
+            "set", new RuleType(Set.class, CheckerSet.class, value -> instance(value, Set.class),
+                    (value, name) -> CheckerSet.check((Set<Object>) value, name)),
+            "map", new RuleType(Map.class, CheckerMap.class, value -> instance(value, Map.class),
+                    (value, name) -> CheckerMap.check((Map<Object, Object>) value, name)));
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * A compiled rule expression, applied to the value of a property.
+     */
+    interface CompiledRule {
+
+        /**
+         * Applies the rule, throwing on the first failed check.
+         *
+         * @param value the value of the property
+         * @param name  the name of the property
+         */
+        void check(Object value, String name);
+
+        /**
+         * Applies the rule, saving the result of every check in the tracker.
+         *
+         * @param value   the value of the property
+         * @param name    the name of the property
+         * @param tracker the tracker of the property
+         */
+        void check(Object value, String name, ExceptionTracker tracker);
+
+        /**
+         * Applies the rule without recording anything.
+         *
+         * @param value the value of the property
+         * @return true if every check passed
+         */
+        boolean test(Object value);
+
+    }
+
+    /**
+     * Compiles one expression.
+     *
+     * @param property   the property the expression applies to, for error messages
+     * @param expression the expression
+     * @return the compiled rule
+     * @throws IllegalArgumentException if the expression is invalid
+     */
+    static CompiledRule compile(String property, String expression) {
+        try {
+            String trimmed = expression.trim();
+            if (trimmed.equals(REQUIRED)) {
+                return new RequiredRule();
+            }
+            return compile(new Parser(trimmed));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid rule '" + expression + "' for property '" + property + "': " + e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static CompiledRule compile(Parser parser) {
+        String typeName = parser.identifier();
+        RuleType type = TYPES.get(typeName);
+        if (type == null) {
+            throw new IllegalArgumentException("unknown type '" + typeName + "', expected one of " + TYPES.keySet());
+        }
+
+        List<MethodHandle> steps = new ArrayList<>();
+        Class<?> current = type.checkerClass();
+        do {
+            parser.expect('.');
+            String methodName = parser.identifier();
+            List<Object> args = parser.arguments();
+            Method method = resolve(current, methodName, args);
+            steps.add(bind(method, args));
+            current = method.getGenericReturnType() instanceof TypeVariable<?> ? current : method.getReturnType();
+        } while (!parser.atEnd());
+
+        MethodHandle[] chain = steps.toArray(MethodHandle[]::new);
+        Consumer consumer = checker -> {
+            Object target = checker;
+            for (MethodHandle step : chain) {
+                target = invoke(step, target);
+            }
+        };
+        CheckerSpec spec = CheckerSpec.of((BiFunction) type.factory(), consumer);
+        return new SpecRule(type, spec);
+    }
+
+    private static Object invoke(MethodHandle step, Object target) {
+        try {
+            return step.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Finds the public method of the checker class with the given name that accepts the
+     * arguments with the fewest conversions.
+     */
+    private static Method resolve(Class<?> checkerClass, String name, List<Object> args) {
+        if (!AbstractChecker.class.isAssignableFrom(checkerClass)) {
+            throw new IllegalArgumentException("'" + name + "' cannot follow a method that does not return a checker");
+        }
+        Method best = null;
+        int bestCost = NO_MATCH;
+        boolean ambiguous = false;
+        for (Method method : checkerClass.getMethods()) {
+            if (!method.getName().equals(name) || method.getParameterCount() != args.size() || Modifier.isStatic(method.getModifiers()) || method.isBridge()
+                    || EXCLUDED_METHODS.contains(name) || name.startsWith("set")) {
+                continue;
+            }
+            int cost = cost(method.getParameterTypes(), args);
+            if (cost < bestCost) {
+                best = method;
+                bestCost = cost;
+                ambiguous = false;
+            } else if (cost == bestCost && cost != NO_MATCH && !sameSignature(best, method)) {
+                ambiguous = true;
+            }
+        }
+        if (best == null) {
+            throw new IllegalArgumentException("no method " + name + " of " + checkerClass.getSimpleName() + " accepts " + args);
+        }
+        if (ambiguous) {
+            throw new IllegalArgumentException("ambiguous method " + name + " of " + checkerClass.getSimpleName() + " for " + args);
+        }
+        return best;
+    }
+
+    private static boolean sameSignature(Method a, Method b) {
+        return Arrays.equals(a.getParameterTypes(), b.getParameterTypes());
+    }
+
+    private static int cost(Class<?>[] parameters, List<Object> args) {
+        int total = 0;
+        for (int i = 0; i < parameters.length; i++) {
+            int cost = cost(parameters[i], args.get(i));
+            if (cost == NO_MATCH) {
+                return NO_MATCH;
+            }
+            total += cost;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the cost of passing a literal to a parameter, or {@link #NO_MATCH}.
+     */
+    private static int cost(Class<?> parameter, Object arg) {
+        Class<?> type = parameter.isPrimitive() ? MethodType.methodType(parameter).wrap().returnType() : parameter;
+        if (arg == null) {
+            return parameter.isPrimitive() ? NO_MATCH : 0;
+        }
+        if (arg instanceof Long value) {
+            boolean isInt = value == value.intValue();
+            if (type == Integer.class) return isInt ? 0 : NO_MATCH;
+            if (type == Long.class) return 1;
+            if (type == Double.class) return 2;
+            if (type == Float.class) return 3;
+            if (type == Number.class || type == Object.class) return 4;
+            if (type == Short.class) return value == value.shortValue() ? 5 : NO_MATCH;
+            if (type == Byte.class) return value == value.byteValue() ? 6 : NO_MATCH;
+            return NO_MATCH;
+        }
+        if (arg instanceof Double) {
+            if (type == Double.class) return 0;
+            if (type == Float.class) return 1;
+            if (type == Number.class || type == Object.class) return 2;
+            return NO_MATCH;
+        }
+        if (arg instanceof String value) {
+            if (type == String.class) return 0;
+            if (type == CharSequence.class) return 1;
+            if (type == Object.class) return 2;
+            if (type == Character.class) return value.length() == 1 ? 3 : NO_MATCH;
+            return NO_MATCH;
+        }
+        if (arg instanceof Boolean) {
+            return type == Boolean.class ? 0 : type == Object.class ? 1 : NO_MATCH;
+        }
+        return NO_MATCH;
+    }
+
+    /**
+     * Binds the arguments of a method, converted to its parameter types, into a handle taking
+     * and returning the checker as an Object.
+     */
+    private static MethodHandle bind(Method method, List<Object> args) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            Class<?>[] parameters = method.getParameterTypes();
+            Object[] values = new Object[args.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = convert(parameters[i], args.get(i));
+            }
+            return MethodHandles.insertArguments(handle, 1, values).asType(CHAIN_STEP);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("method " + method.getName() + " is not accessible", e);
+        }
+    }
+
+    private static Object convert(Class<?> parameter, Object arg) {
+        Class<?> type = parameter.isPrimitive() ? MethodType.methodType(parameter).wrap().returnType() : parameter;
+        if (arg instanceof Number number) {
+            if (type == Integer.class) return number.intValue();
+            if (type == Long.class) return number.longValue();
+            if (type == Double.class) return number.doubleValue();
+            if (type == Float.class) return number.floatValue();
+            if (type == Short.class) return number.shortValue();
+            if (type == Byte.class) return number.byteValue();
+        }
+        if (arg instanceof String value && type == Character.class) {
+            return value.charAt(0);
+        }
+        return arg;
+    }
+
+    private static Object instance(Object value, Class<?> clazz) {
+        return value == null || clazz.isInstance(value) ? value : NOT_CONVERTIBLE;
+    }
+
+    private static Object toInteger(Object value) {
+        if (value == null || value instanceof Integer) {
+            return value;
+        }
+        if (isIntegral(value)) {
+            long number = ((Number) value).longValue();
+            if (number == (int) number && BigInteger.valueOf(number).equals(toBigInteger(value))) {
+                return (int) number;
+            }
+        }
+        return NOT_CONVERTIBLE;
+    }
+
+    private static Object toLong(Object value) {
+        if (value == null || value instanceof Long) {
+            return value;
+        }
+        if (isIntegral(value)) {
+            long number = ((Number) value).longValue();
+            if (BigInteger.valueOf(number).equals(toBigInteger(value))) {
+                return number;
+            }
+        }
+        return NOT_CONVERTIBLE;
+    }
+
+    private static Object toDouble(Object value) {
+        return value == null || value instanceof Double ? value : value instanceof Number number ? number.doubleValue() : NOT_CONVERTIBLE;
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger;
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        return value instanceof BigInteger big ? big : BigInteger.valueOf(((Number) value).longValue());
+    }
+
+    /**
+     * A rule applying a chain of checks with a {@link CheckerSpec}. Values of the wrong type
+     * fail an instance check instead.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private record SpecRule(RuleType type, CheckerSpec spec) implements CompiledRule {
+
+        @Override
+        public void check(Object value, String name) {
+            Object converted = this.type.converter().apply(value);
+            if (converted == NOT_CONVERTIBLE) {
+                Checker.check(value, name).isInstance(this.type.valueClass());
+                return;
+            }
+            this.spec.check(converted, name);
+        }
+
+        @Override
+        public void check(Object value, String name, ExceptionTracker tracker) {
+            Object converted = this.type.converter().apply(value);
+            if (converted == NOT_CONVERTIBLE) {
+                Checker.check(value, name).setExceptionTracker(tracker).saveErrors().isInstance(this.type.valueClass());
+                return;
+            }
+            this.spec.check(converted, name, tracker);
+        }
+
+        @Override
+        public boolean test(Object value) {
+            Object converted = this.type.converter().apply(value);
+            return converted != NOT_CONVERTIBLE && this.spec.test(converted);
+        }
+
+    }
+
+    /**
+     * The {@code required} rule, failing when the property is missing or null.
+     */
+    private static final class RequiredRule implements CompiledRule {
+
+        @Override
+        public void check(Object value, String name) {
+            required(Checker.check(value, name));
+        }
+
+        @Override
+        public void check(Object value, String name, ExceptionTracker tracker) {
+            required(Checker.check(value, name).setExceptionTracker(tracker).saveErrors());
+        }
+
+        private static void required(Checker<Object> checker) {
+            checker.setStop(false).is(value -> value != null, MessageService.sendMessage(INIT_RULES, REQUIRED));
+        }
+
+        @Override
+        public boolean test(Object value) {
+            return value != null;
+        }
+
+    }
+
+    /**
+     * Compiles a property path, such as {@code address.city}, into an accessor reading it from
+     * maps and from objects through their accessor methods, getters or public fields.
+     *
+     * @param path the property path
+     * @return the accessor, returning null for missing properties
+     */
+    static Function<Object, Object> accessor(String path) {
+        String[] names = path.split("\\.");
+        Property[] properties = new Property[names.length];
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].isEmpty()) {
+                throw new IllegalArgumentException("Invalid property path '" + path + "'");
+            }
+            properties[i] = new Property(names[i]);
+        }
+        return subject -> {
+            Object value = subject;
+            for (Property property : properties) {
+                if (value == null) {
+                    return null;
+                }
+                value = property.read(value);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * One segment of a property path, with its accessor resolved once per class.
+     */
+    private static final class Property {
+
+        private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+        private final String name;
+
+        private final ClassValue<MethodHandle> accessors = new ClassValue<>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> type) {
+                return find(type);
+            }
+        };
+
+        private Property(String name) {
+            this.name = name;
+        }
+
+        Object read(Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(this.name);
+            }
+            MethodHandle accessor = this.accessors.get(object.getClass());
+            return accessor == null ? null : invoke(accessor, object);
+        }
+
+        private MethodHandle find(Class<?> type) {
+            String capitalized = Character.toUpperCase(this.name.charAt(0)) + this.name.substring(1);
+            for (String candidate : new String[]{ this.name, "get" + capitalized, "is" + capitalized }) {
+                try {
+                    Method method = type.getMethod(candidate);
+                    if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class && method.trySetAccessible()) {
+                        return MethodHandles.lookup().unreflect(method).asType(GETTER);
+                    }
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    // try the next naming convention
+                }
+            }
+            try {
+                Field field = type.getField(this.name);
+                if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                    return MethodHandles.lookup().unreflectGetter(field).asType(GETTER);
+                }
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                // the property is missing
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Reads a rule expression.
+     */
+    private static final class Parser {
+
+        private final String text;
+        private int position;
+
+        private Parser(String text) {
+            this.text = text;
+        }
+
+        boolean atEnd() {
+            skipSpaces();
+            return this.position == this.text.length();
+        }
+
+        void expect(char expected) {
+            skipSpaces();
+            if (this.position == this.text.length() || this.text.charAt(this.position) != expected) {
+                throw error("expected '" + expected + "'");
+            }
+            this.position++;
+        }
+
+        String identifier() {
+            skipSpaces();
+            int start = this.position;
+            while (this.position < this.text.length() && Character.isJavaIdentifierPart(this.text.charAt(this.position))) {
+                this.position++;
+            }
+            if (start == this.position || !Character.isJavaIdentifierStart(this.text.charAt(start))) {
+                throw error("expected a name");
+            }
+            return this.text.substring(start, this.position);
+        }
+
+        List<Object> arguments() {
+            List<Object> args = new ArrayList<>();
+            skipSpaces();
+            if (this.position == this.text.length() || this.text.charAt(this.position) != '(') {
+                return args;
+            }
+            this.position++;
+            skipSpaces();
+            if (peek() == ')') {
+                this.position++;
+                return args;
+            }
+            while (true) {
+                args.add(literal());
+                skipSpaces();
+                char next = peek();
+                this.position++;
+                if (next == ')') {
+                    return args;
+                }
+                if (next != ',') {
+                    throw error("expected ',' or ')'");
+                }
+            }
+        }
+
+        private Object literal() {
+            skipSpaces();
+            char first = peek();
+            if (first == '"' || first == '\'') {
+                return string(first);
+            }
+            int start = this.position;
+            while (this.position < this.text.length() && ",) \t".indexOf(this.text.charAt(this.position)) < 0) {
+                this.position++;
+            }
+            String token = this.text.substring(start, this.position);
+            switch (token) {
+                case "true": return Boolean.TRUE;
+                case "false": return Boolean.FALSE;
+                case "null": return null;
+                default:
+                    try {
+                        return token.matches("[-+]?\\d+") ? (Object) Long.valueOf(token) : (Object) Double.valueOf(token);
+                    } catch (NumberFormatException e) {
+                        throw error("invalid literal '" + token + "'");
+                    }
+            }
+        }
+
+        private String string(char quote) {
+            StringBuilder value = new StringBuilder();
+            this.position++;
+            while (this.position < this.text.length()) {
+                char c = this.text.charAt(this.position++);
+                if (c == quote) {
+                    return value.toString();
+                }
+                if (c == '\\' && this.position < this.text.length()) {
+                    c = this.text.charAt(this.position++);
+                }
+                value.append(c);
+            }
+            throw error("unterminated string");
+        }
+
+        private char peek() {
+            if (this.position == this.text.length()) {
+                throw error("unexpected end");
+            }
+            return this.text.charAt(this.position);
+        }
+
+        private void skipSpaces() {
+            while (this.position < this.text.length() && Character.isWhitespace(this.text.charAt(this.position))) {
+                this.position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + this.position);
+        }
+
+    }
+
+}
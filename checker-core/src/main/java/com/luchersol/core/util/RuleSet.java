@@ -0,0 +1,256 @@
+package com.luchersol.core.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luchersol.core.util.RuleCompiler.CompiledRule;
+
+/**
+ * A set of validation rules declared in YAML or JSON, compiled once into {@link CheckerSpec}s
+ * of the specialized checkers and applied to any number of objects.
+ *
+ * <p>
+ * A rule file maps property paths to one rule or to a list of rules:
+ * <pre>{@code
+ * name: string.inRange(3, 40)
+ * age: [required, integer.isPositive]
+ * tags: list.allDistinct
+ * address.city: string.min(0).matches("[A-Za-z ]+")
+ * }</pre>
+ * A rule names a type ({@code object}, {@code string}, {@code integer}, {@code long},
+ * {@code double}, {@code list}, {@code set} or {@code map}) followed by a chain of methods of
+ * its checker, with literal arguments. {@code required} fails when the property is missing or
+ * null; the checks of other rules are recorded as not checked for null values, as for any
+ * checker. A value of the wrong type fails an instance check.
+ *
+ * <p>
+ * Properties are read from maps by key and from other objects through their accessor
+ * methods, getters or public fields. A rule set is immutable and thread-safe; to change rules
+ * without redeploying, see {@link ReloadingRuleSet}.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * RuleSet rules = RuleSet.load(Path.of("user-rules.yaml"));
+ * ValidationResult result = rules.validate(user, "user");
+ * }</pre>
+ */
+public final class RuleSet {
+
+    /**
+     * Formats of a rule file.
+     */
+    public enum Format {
+        /** YAML, the default for files not ending in {@code .json}. */
+        YAML,
+        /** JSON. */
+        JSON
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /**
+     * The compiled rules of one property path.
+     */
+    private record PropertyRules(String path, Function<Object, Object> accessor, CompiledRule[] rules) {}
+
+    private final Map<String, List<String>> source;
+    private final PropertyRules[] properties;
+
+    private RuleSet(Map<String, List<String>> source, PropertyRules[] properties) {
+        this.source = source;
+        this.properties = properties;
+    }
+
+    /**
+     * Compiles rules from a map of property paths to a rule or a list of rules.
+     *
+     * @param rules the rules by property path
+     * @return a new RuleSet
+     * @throws IllegalArgumentException if a rule is invalid
+     */
+    public static RuleSet of(Map<String, ?> rules) {
+        Map<String, List<String>> source = new LinkedHashMap<>();
+        List<PropertyRules> properties = new ArrayList<>();
+        rules.forEach((path, value) -> {
+            List<String> expressions = expressions(path, value);
+            CompiledRule[] compiled = new CompiledRule[expressions.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                compiled[i] = RuleCompiler.compile(path, expressions.get(i));
+            }
+            source.put(path, List.copyOf(expressions));
+            properties.add(new PropertyRules(path, RuleCompiler.accessor(path), compiled));
+        });
+        return new RuleSet(Collections.unmodifiableMap(source), properties.toArray(PropertyRules[]::new));
+    }
+
+    private static List<String> expressions(String path, Object value) {
+        if (value instanceof String expression) {
+            return List.of(expression);
+        }
+        if (value instanceof List<?> list) {
+            List<String> expressions = new ArrayList<>(list.size());
+            for (Object element : list) {
+                if (!(element instanceof String expression)) {
+                    throw new IllegalArgumentException("Rules of property '" + path + "' must be strings: " + element);
+                }
+                expressions.add(expression);
+            }
+            return expressions;
+        }
+        throw new IllegalArgumentException("Rules of property '" + path + "' must be a string or a list of strings: " + value);
+    }
+
+    /**
+     * Parses and compiles the rules of a YAML or JSON document.
+     *
+     * @param text   the document
+     * @param format the format of the document
+     * @return a new RuleSet
+     * @throws IllegalArgumentException if the document or a rule is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public static RuleSet parse(String text, Format format) {
+        Object document;
+        try {
+            document = switch (format) {
+                case YAML -> new Yaml(new SafeConstructor(new LoaderOptions())).load(text);
+                case JSON -> JSON.readValue(text, Object.class);
+            };
+        } catch (JsonProcessingException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + format + " rule document: " + e.getMessage(), e);
+        }
+        if (document == null) {
+            return of(Map.of());
+        }
+        if (!(document instanceof Map<?, ?> map)) {
+            throw new IllegalArgumentException("A rule document must be a map of property paths to rules");
+        }
+        Map<String, Object> rules = new LinkedHashMap<>();
+        map.forEach((key, value) -> rules.put(String.valueOf(key), value));
+        return of(rules);
+    }
+
+    /**
+     * Reads and compiles a rule file, in JSON if its name ends in {@code .json} and in YAML
+     * otherwise.
+     *
+     * @param path the rule file
+     * @return a new RuleSet
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file or a rule is invalid
+     */
+    public static RuleSet load(Path path) throws IOException {
+        return parse(Files.readString(path, StandardCharsets.UTF_8), formatOf(path));
+    }
+
+    /**
+     * Returns the format of a rule file, from its extension.
+     *
+     * @param path the rule file
+     * @return {@link Format#JSON} for {@code .json} files, {@link Format#YAML} otherwise
+     */
+    static Format formatOf(Path path) {
+        return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json") ? Format.JSON : Format.YAML;
+    }
+
+    /**
+     * Applies the rules to the given object, throwing on the first failed check.
+     *
+     * @param subject the object to validate
+     * @param name    the name of the object; properties are named {@code name.path}
+     * @throws CheckerException if a check fails
+     */
+    public void check(Object subject, String name) {
+        for (PropertyRules property : this.properties) {
+            Object value = property.accessor().apply(subject);
+            String propertyName = name + "." + property.path();
+            for (CompiledRule rule : property.rules()) {
+                rule.check(value, propertyName);
+            }
+        }
+    }
+
+    /**
+     * Applies the rules to the given object, saving the result of every check in the tracker
+     * of each property, merged into the given tracker.
+     *
+     * @param subject the object to validate
+     * @param name    the name of the object; properties are named {@code name.path}
+     * @param tracker the tracker that receives the results
+     * @return true if no check failed
+     */
+    public boolean check(Object subject, String name, ExceptionTracker tracker) {
+        long errors = tracker.getThrownCount();
+        for (PropertyRules property : this.properties) {
+            Object value = property.accessor().apply(subject);
+            ExceptionTracker child = tracker.createChild(name + "." + property.path());
+            for (CompiledRule rule : property.rules()) {
+                rule.check(value, child.getName(), child);
+            }
+            tracker.merge(child);
+        }
+        return tracker.getThrownCount() == errors;
+    }
+
+    /**
+     * Applies the rules to the given object without throwing, keeping the failed checks.
+     *
+     * @param subject the object to validate
+     * @param name    the name of the object; properties are named {@code name.path}
+     * @return the result of the rules
+     */
+    public ValidationResult validate(Object subject, String name) {
+        ExceptionTracker tracker = ExceptionTracker.empty(name);
+        tracker.setTrackingLevel(ExceptionTracker.TrackingLevel.FAILURES);
+        check(subject, name, tracker);
+        return ValidationResult.of(tracker);
+    }
+
+    /**
+     * Applies the rules to the given object without recording anything.
+     *
+     * @param subject the object to validate
+     * @return true if every check passed
+     */
+    public boolean test(Object subject) {
+        for (PropertyRules property : this.properties) {
+            Object value = property.accessor().apply(subject);
+            for (CompiledRule rule : property.rules()) {
+                if (!rule.test(value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the rule expressions by property path, in declaration order.
+     *
+     * @return an unmodifiable map of the rules
+     */
+    public Map<String, List<String>> getRules() {
+        return this.source;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSet" + this.source;
+    }
+
+}
@@ -0,0 +1,416 @@
+package com.luchersol.core.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache of compiled {@link RuleSet}s keyed by rule set id and version, for services validating
+ * on behalf of many tenants.
+ *
+ * <p>
+ * A rule set is compiled by the {@link Loader} the first time one of its versions is
+ * requested. Concurrent requests for a version being compiled wait for that compilation
+ * instead of starting their own, so every version is compiled once while it stays cached.
+ * Hits only read a concurrent map and stamp the entry, without taking any lock.
+ *
+ * <p>
+ * Every cached rule set has a weight, by default its number of rules. When the total weight
+ * exceeds the maximum, the least recently used rule sets are evicted; evicted versions are
+ * compiled again on their next request. Old versions of a tenant are not removed when a newer
+ * one is loaded, and simply age out unless {@link #invalidateAll(String)} is called.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * RuleSetRegistry registry = RuleSetRegistry.of(
+ *         (tenant, version) -> RuleSet.load(rulesDir.resolve(tenant).resolve(version + ".yaml")),
+ *         10_000);
+ * ValidationResult result = registry.get(tenant, version).validate(order, "order");
+ * }</pre>
+ */
+public final class RuleSetRegistry {
+
+    /**
+     * Compiles the rule set of a version.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Compiles a version of a rule set.
+         *
+         * @param ruleSetId the id of the rule set
+         * @param version   the version
+         * @return the compiled rule set
+         * @throws IOException if the rules cannot be read
+         */
+        RuleSet load(String ruleSetId, String version) throws IOException;
+
+    }
+
+    /**
+     * Identifies a version of a rule set.
+     *
+     * @param ruleSetId the id of the rule set
+     * @param version   the version
+     */
+    public record Key(String ruleSetId, String version) {}
+
+    /**
+     * Snapshot of the statistics of a registry.
+     *
+     * @param hits           the number of requests served from the cache
+     * @param misses         the number of requests not found in the cache, including those that
+     *                       waited for a compilation started by another request
+     * @param loads          the number of successful compilations
+     * @param loadFailures   the number of failed compilations
+     * @param evictions      the number of rule sets evicted to respect the maximum weight
+     * @param totalLoadNanos the time spent compiling, in nanoseconds
+     * @param size           the number of cached rule sets
+     * @param weight         the total weight of the cached rule sets
+     */
+    public record Stats(long hits, long misses, long loads, long loadFailures, long evictions, long totalLoadNanos, long size, long weight) {
+
+        /**
+         * Returns the number of requests.
+         *
+         * @return the number of hits and misses
+         */
+        public long requestCount() {
+            return this.hits + this.misses;
+        }
+
+        /**
+         * Returns the fraction of requests served from the cache.
+         *
+         * @return the hit rate, or 1 if there were no requests
+         */
+        public double hitRate() {
+            long requests = requestCount();
+            return requests == 0 ? 1 : (double) this.hits / requests;
+        }
+
+        /**
+         * Returns the mean time spent in a compilation, successful or not.
+         *
+         * @return the mean load time in nanoseconds, or 0 if nothing was compiled
+         */
+        public double averageLoadNanos() {
+            long loads = this.loads + this.loadFailures;
+            return loads == 0 ? 0 : (double) this.totalLoadNanos / loads;
+        }
+
+    }
+
+    /**
+     * A cached rule set.
+     */
+    private static final class Node {
+
+        private final RuleSet rules;
+        private final long weight;
+        private volatile long lastAccess;
+
+        private Node(RuleSet rules, long weight) {
+            this.rules = rules;
+            this.weight = weight;
+            this.lastAccess = System.nanoTime();
+        }
+
+    }
+
+    private final Loader loader;
+    private final long maximumWeight;
+    private volatile ToLongFunction<RuleSet> weigher = RuleSetRegistry::ruleCount;
+
+    private final Map<Key, Node> cache = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<RuleSet>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    private RuleSetRegistry(Loader loader, long maximumWeight) {
+        this.loader = loader;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param loader        compiles the rule sets on their first request
+     * @param maximumWeight the maximum total weight of the cached rule sets
+     * @return a new RuleSetRegistry
+     * @throws IllegalArgumentException if the maximum weight is not positive
+     */
+    public static RuleSetRegistry of(Loader loader, long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("maximumWeight must be positive: " + maximumWeight);
+        }
+        return new RuleSetRegistry(loader, maximumWeight);
+    }
+
+    /**
+     * Sets how the weight of a rule set is computed when it is loaded. Rule sets already cached
+     * keep their weight.
+     *
+     * @param weigher the weight of a rule set, never negative
+     * @return this registry
+     */
+    public RuleSetRegistry setWeigher(ToLongFunction<RuleSet> weigher) {
+        this.weigher = weigher;
+        return this;
+    }
+
+    private static long ruleCount(RuleSet rules) {
+        return Math.max(1, rules.getRules().values().stream().mapToLong(List::size).sum());
+    }
+
+    /**
+     * Returns the compiled rule set of the given version, compiling it if it is not cached.
+     *
+     * @param ruleSetId the id of the rule set
+     * @param version   the version
+     * @return the compiled rule set
+     * @throws UncheckedIOException     if the loader cannot read the rules
+     * @throws IllegalArgumentException if the rules are invalid
+     */
+    public RuleSet get(String ruleSetId, String version) {
+        Key key = new Key(ruleSetId, version);
+        Node node = this.cache.get(key);
+        if (node != null) {
+            node.lastAccess = System.nanoTime();
+            this.hits.increment();
+            return node.rules;
+        }
+        this.misses.increment();
+
+        CompletableFuture<RuleSet> future = new CompletableFuture<>();
+        CompletableFuture<RuleSet> inFlight = this.loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            node = this.cache.get(key);
+            RuleSet rules = node != null ? node.rules : load(key, future);
+            future.complete(rules);
+            return rules;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loading.remove(key, future);
+        }
+    }
+
+    private static RuleSet await(CompletableFuture<RuleSet> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Compiles the rule set and caches it, unless it was invalidated while it was compiled.
+     *
+     * @param key    the rule set and version
+     * @param future the in-flight load of the key, removed from {@link #loading} by invalidation
+     * @return the compiled rule set
+     */
+    private RuleSet load(Key key, CompletableFuture<RuleSet> future) {
+        long start = System.nanoTime();
+        RuleSet rules;
+        try {
+            rules = this.loader.load(key.ruleSetId(), key.version());
+            if (rules == null) {
+                throw new IllegalStateException("The loader returned no rules for " + key);
+            }
+        } catch (IOException e) {
+            this.loadFailures.increment();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException | Error e) {
+            this.loadFailures.increment();
+            throw e;
+        } finally {
+            this.totalLoadNanos.add(System.nanoTime() - start);
+        }
+        this.loads.increment();
+
+        long weight = this.weigher.applyAsLong(rules);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight " + weight + " for " + key);
+        }
+        this.loading.computeIfPresent(key, (k, current) -> {
+            if (current == future) {
+                Node previous = this.cache.put(k, new Node(rules, weight));
+                this.weight.addAndGet(previous == null ? weight : weight - previous.weight);
+            }
+            return current;
+        });
+        evict();
+        return rules;
+    }
+
+    /**
+     * Evicts the least recently used rule sets until the total weight is within the maximum.
+     */
+    private void evict() {
+        if (this.weight.get() <= this.maximumWeight) {
+            return;
+        }
+        synchronized (this.evictionLock) {
+            while (this.weight.get() > this.maximumWeight) {
+                Map.Entry<Key, Node> oldest = null;
+                for (Map.Entry<Key, Node> entry : this.cache.entrySet()) {
+                    if (oldest == null || entry.getValue().lastAccess - oldest.getValue().lastAccess < 0) {
+                        oldest = entry;
+                    }
+                }
+                if (oldest == null) {
+                    return;
+                }
+                if (this.cache.remove(oldest.getKey(), oldest.getValue())) {
+                    this.weight.addAndGet(-oldest.getValue().weight);
+                    this.evictions.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given version is cached.
+     *
+     * @param ruleSetId the id of the rule set
+     * @param version   the version
+     * @return true if the version is cached
+     */
+    public boolean contains(String ruleSetId, String version) {
+        return this.cache.containsKey(new Key(ruleSetId, version));
+    }
+
+    /**
+     * Removes the given version from the cache. A load of the version in progress still returns
+     * its rules to the callers waiting for it, but does not cache them.
+     *
+     * @param ruleSetId the id of the rule set
+     * @param version   the version
+     */
+    public void invalidate(String ruleSetId, String version) {
+        remove(new Key(ruleSetId, version));
+    }
+
+    /**
+     * Removes every version of the given rule set from the cache, including the versions being
+     * loaded.
+     *
+     * @param ruleSetId the id of the rule set
+     */
+    public void invalidateAll(String ruleSetId) {
+        for (Key key : this.loading.keySet()) {
+            if (key.ruleSetId().equals(ruleSetId)) {
+                remove(key);
+            }
+        }
+        for (Key key : this.cache.keySet()) {
+            if (key.ruleSetId().equals(ruleSetId)) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes every rule set from the cache, including the rule sets being loaded.
+     */
+    public void invalidateAll() {
+        for (Key key : this.loading.keySet()) {
+            remove(key);
+        }
+        for (Key key : this.cache.keySet()) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Removes the key from the cache. Its in-flight load, if any, is removed first: a load only
+     * caches its rules while it is still registered, under the same lock of {@link #loading},
+     * so it either sees the removal and skips caching or caches before the entry is removed.
+     *
+     * @param key the rule set and version
+     */
+    private void remove(Key key) {
+        this.loading.remove(key);
+        Node node = this.cache.remove(key);
+        if (node != null) {
+            this.weight.addAndGet(-node.weight);
+        }
+    }
+
+    /**
+     * Returns the number of cached rule sets.
+     *
+     * @return the number of cached rule sets
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns the total weight of the cached rule sets.
+     *
+     * @return the total weight
+     */
+    public long getWeight() {
+        return this.weight.get();
+    }
+
+    /**
+     * Returns the maximum total weight of the cached rule sets.
+     *
+     * @return the maximum weight
+     */
+    public long getMaximumWeight() {
+        return this.maximumWeight;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this registry.
+     *
+     * @return the statistics
+     */
+    public Stats getStats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.loads.sum(), this.loadFailures.sum(),
+                this.evictions.sum(), this.totalLoadNanos.sum(), this.cache.size(), this.weight.get());
+    }
+
+    /**
+     * Resets the statistics, keeping the cached rule sets.
+     */
+    public void resetStats() {
+        this.hits.reset();
+        this.misses.reset();
+        this.loads.reset();
+        this.loadFailures.reset();
+        this.evictions.reset();
+        this.totalLoadNanos.reset();
+    }
+
+}
@@ -0,0 +1,284 @@
+package com.luchersol.core.util;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Decides which subjects of a hot path are validated, so that only a fraction of them pay
+ * for their checks, and extrapolates the outcome of the sampled subjects to all of them.
+ *
+ * <p>
+ * A fixed policy validates each subject with the same probability. An adaptive policy starts
+ * by validating every subject and, at the end of every window, scales its rate so that the
+ * time spent validating stays within a budget per second, halving or doubling it at most.
+ * Sampled subjects are counted with the weight {@code 1 / rate} of the rate they were sampled
+ * at, so the estimated failures stay unbiased while the rate moves.
+ *
+ * <p>
+ * A policy is thread-safe and meant to be shared by every thread of the path.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * SamplingPolicy sampling = SamplingPolicy.adaptive(Duration.ofMillis(20));
+ * ...
+ * sampling.validate(message, "message", CheckerString::check, checker -> checker.min(1).max(4096))
+ *         .filter(result -> !result.isValid())
+ *         .ifPresent(result -> log(result.getMessages()));
+ * ...
+ * double failureRate = sampling.getStats().estimatedFailureRate();
+ * }</pre>
+ */
+public final class SamplingPolicy {
+
+    private static final long DEFAULT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double DEFAULT_MIN_RATE = 0.001;
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Snapshot of the subjects seen by a policy.
+     *
+     * @param seen            the number of subjects offered to the policy
+     * @param sampled         the number of subjects validated
+     * @param failed          the number of validated subjects that failed
+     * @param estimatedFailed the estimated number of failed subjects among those seen
+     * @param rate            the current sampling rate
+     */
+    public record Stats(long seen, long sampled, long failed, double estimatedFailed, double rate) {
+
+        /**
+         * Returns the number of validated subjects that passed.
+         *
+         * @return the number of passed subjects
+         */
+        public long passed() {
+            return this.sampled - this.failed;
+        }
+
+        /**
+         * Returns the fraction of the seen subjects that were validated.
+         *
+         * @return the coverage, or 0 if no subject was seen
+         */
+        public double coverage() {
+            return this.seen == 0 ? 0 : (double) this.sampled / this.seen;
+        }
+
+        /**
+         * Returns the estimated fraction of the seen subjects that would fail.
+         *
+         * @return the estimated failure rate, or 0 if no subject was seen
+         */
+        public double estimatedFailureRate() {
+            return this.seen == 0 ? 0 : Math.min(this.estimatedFailed / this.seen, 1);
+        }
+
+        /**
+         * Returns the estimated fraction of the seen subjects that would pass.
+         *
+         * @return the estimated pass rate, or 0 if no subject was seen
+         */
+        public double estimatedPassRate() {
+            return this.seen == 0 ? 0 : 1 - estimatedFailureRate();
+        }
+
+    }
+
+    /**
+     * Validation time allowed per second, or 0 for a fixed rate.
+     */
+    private final long budgetNanos;
+    private long windowNanos = DEFAULT_WINDOW_NANOS;
+    private double minRate = DEFAULT_MIN_RATE;
+    private volatile double rate;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final LongAdder windowSpent = new LongAdder();
+
+    private final LongAdder seen = new LongAdder();
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final DoubleAdder estimatedFailed = new DoubleAdder();
+
+    private SamplingPolicy(double rate, long budgetNanos) {
+        this.rate = rate;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Creates a policy validating each subject with the given probability.
+     *
+     * @param rate the probability of validating a subject
+     * @return a new SamplingPolicy
+     * @throws IllegalArgumentException if the rate is not greater than 0 and at most 1
+     */
+    public static SamplingPolicy fixed(double rate) {
+        if (!(rate > 0 && rate <= 1)) {
+            throw new IllegalArgumentException("rate must be greater than 0 and at most 1: " + rate);
+        }
+        return new SamplingPolicy(rate, 0);
+    }
+
+    /**
+     * Creates a policy adapting its rate so that validating takes at most the given time per
+     * second, summed over all threads.
+     *
+     * @param budget the validation time allowed per second
+     * @return a new SamplingPolicy
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    public static SamplingPolicy adaptive(Duration budget) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("budget must be positive: " + budget);
+        }
+        return new SamplingPolicy(1, budget.toNanos());
+    }
+
+    /**
+     * Sets the lowest rate an adaptive policy may reach. Defaults to 0.001.
+     *
+     * @param minRate the lowest sampling rate
+     * @return this policy
+     * @throws IllegalArgumentException if the rate is not greater than 0 and at most 1
+     */
+    public SamplingPolicy setMinRate(double minRate) {
+        if (!(minRate > 0 && minRate <= 1)) {
+            throw new IllegalArgumentException("minRate must be greater than 0 and at most 1: " + minRate);
+        }
+        this.minRate = minRate;
+        return this;
+    }
+
+    /**
+     * Sets how often an adaptive policy revises its rate. Defaults to one second.
+     *
+     * @param window the time between two revisions
+     * @return this policy
+     * @throws IllegalArgumentException if the window is not positive
+     */
+    public SamplingPolicy setWindow(Duration window) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        this.windowNanos = window.toNanos();
+        return this;
+    }
+
+    /**
+     * Validates the object with a {@link Checker} if it is sampled, without throwing.
+     *
+     * @param <T>    the type of the object
+     * @param object the object
+     * @param name   the name of the object
+     * @param checks the checks of the object
+     * @return the result of the validation, or empty if the object was not sampled
+     */
+    public <T> Optional<ValidationResult> validate(T object, String name, Consumer<? super Checker<T>> checks) {
+        return this.<T, Checker<T>>validate(object, name, Checker::check, checks);
+    }
+
+    /**
+     * Validates the object with the checker built by the given factory, such as
+     * {@code CheckerString::check}, if it is sampled, without throwing.
+     *
+     * @param <T>     the type of the object
+     * @param <C>     the type of the checker
+     * @param object  the object
+     * @param name    the name of the object
+     * @param factory the factory of the checker
+     * @param checks  the checks of the object
+     * @return the result of the validation, or empty if the object was not sampled
+     */
+    public <T, C extends AbstractChecker<T, C>> Optional<ValidationResult> validate(T object, String name,
+            BiFunction<? super T, String, C> factory, Consumer<? super C> checks) {
+        double rate = admit();
+        if (rate == 0) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        ValidationResult result = factory.apply(object, name).validate(checks);
+        record(rate, result.isValid(), System.nanoTime() - start);
+        return Optional.of(result);
+    }
+
+    /**
+     * Counts a subject and decides whether it is validated.
+     *
+     * @return the rate the subject was sampled at, or 0 if it is not validated
+     */
+    double admit() {
+        this.seen.increment();
+        double rate = this.rate;
+        if (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return 0;
+        }
+        this.sampled.increment();
+        return rate;
+    }
+
+    /**
+     * Records the outcome of a sampled subject and revises the rate at the end of a window.
+     *
+     * @param rate         the rate the subject was sampled at
+     * @param valid        whether the subject passed
+     * @param elapsedNanos the time spent validating it
+     */
+    void record(double rate, boolean valid, long elapsedNanos) {
+        if (!valid) {
+            this.failed.increment();
+            this.estimatedFailed.add(1 / rate);
+        }
+        if (this.budgetNanos == 0) {
+            return;
+        }
+        this.windowSpent.add(elapsedNanos);
+        long start = this.windowStart.get();
+        long now = System.nanoTime();
+        if (now - start >= this.windowNanos && this.windowStart.compareAndSet(start, now)) {
+            adapt(now - start, this.windowSpent.sumThenReset());
+        }
+    }
+
+    private void adapt(long windowNanos, long spentNanos) {
+        double allowed = this.budgetNanos * (windowNanos / NANOS_PER_SECOND);
+        double factor = spentNanos == 0 ? 2 : Math.max(0.5, Math.min(2, allowed / spentNanos));
+        this.rate = Math.max(this.minRate, Math.min(1, this.rate * factor));
+    }
+
+    /**
+     * Returns the current probability of validating a subject.
+     *
+     * @return the sampling rate
+     */
+    public double getRate() {
+        return this.rate;
+    }
+
+    /**
+     * Returns the subjects seen so far and the extrapolated failures.
+     *
+     * @return a snapshot of the statistics
+     */
+    public Stats getStats() {
+        return new Stats(this.seen.sum(), this.sampled.sum(), this.failed.sum(), this.estimatedFailed.sum(), this.rate);
+    }
+
+    /**
+     * Forgets the subjects seen so far. The current rate is kept.
+     */
+    public void reset() {
+        this.seen.reset();
+        this.sampled.reset();
+        this.failed.reset();
+        this.estimatedFailed.reset();
+        this.windowSpent.reset();
+        this.windowStart.set(System.nanoTime());
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.luchersol.core.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event emitted for every nested scope, from the creation of the tracker of a
+ * property checker to its merge into the parent tracker, which {@code end()} performs.
+ *
+ * <p>
+ * Like {@link CheckEvent}, it is disabled by default and has a threshold of 1 ms.
+ */
+@Name(ScopeEvent.NAME)
+@Label("Check Scope")
+@Category("Checker")
+@Description("The checks of a property, from checkProperty() to end()")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public final class ScopeEvent extends Event {
+
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "com.luchersol.core.CheckScope";
+
+    @Label("Scope")
+    @Description("Name of the checked property")
+    String scope;
+
+    @Label("Parent")
+    @Description("Name of the tracker the scope is merged into")
+    String parent;
+
+    @Label("Failed")
+    long failed;
+
+    @Label("Passed")
+    long passed;
+
+    @Label("Not Checked")
+    long notChecked;
+
+    /**
+     * Starts the event of a scope, if enabled.
+     *
+     * @return the started event, or null when the event is disabled
+     */
+    static ScopeEvent start() {
+        ScopeEvent event = new ScopeEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fills in and commits the event, if its duration exceeds the threshold.
+     *
+     * @param scope  the tracker of the scope
+     * @param parent the tracker the scope is merged into
+     */
+    void commit(ExceptionTracker scope, ExceptionTracker parent) {
+        end();
+        if (shouldCommit()) {
+            this.scope = scope.getName();
+            this.parent = parent.getName();
+            this.failed = scope.getThrownCount();
+            this.passed = scope.getPassedCount();
+            this.notChecked = scope.getNotCheckedCount();
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,326 @@
+package com.luchersol.core.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Opt-in cache of the {@link ValidationReport}s of immutable objects, so that validating again
+ * an object already validated by the same rules returns the previous report instead of running
+ * the checks again.
+ *
+ * <p>
+ * Reports are keyed by the subject, the rules and the name of the subject. Rules are compared
+ * with {@code equals}, so a {@link RuleSet} or {@link CheckerSpec} instance identifies its own
+ * results and a recompiled version starts afresh. Subjects are compared either by identity
+ * ({@link #byIdentity(int)}) or by {@code equals} and {@code hashCode} ({@link #byContent(int)}),
+ * which also finds the report of an equal copy. Only immutable subjects should be cached:
+ * a mutated subject would still get the report of its earlier state.
+ *
+ * <p>
+ * Subjects are held weakly: once a subject is no longer reachable its reports are dropped, so
+ * the cache never keeps reference data alive. The cache is also bounded: beyond its maximum
+ * size, reports are evicted with the CLOCK policy, which gives a second chance to the reports
+ * hit since the last pass. Hits take no lock, and null subjects are validated without caching.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * ValidationCache cache = ValidationCache.byContent(10_000);
+ * ValidationReport report = cache.validate(rules, currencyTable, "currencies");
+ * }</pre>
+ */
+public final class ValidationCache {
+
+    /**
+     * Snapshot of the statistics of a cache.
+     *
+     * @param hits      the number of validations answered from the cache
+     * @param misses    the number of validations that ran the checks
+     * @param evictions the number of reports evicted to respect the maximum size
+     * @param collected the number of reports dropped because their subject was collected
+     * @param size      the number of cached reports
+     */
+    public record Stats(long hits, long misses, long evictions, long collected, long size) {
+
+        /**
+         * Returns the fraction of validations answered from the cache.
+         *
+         * @return the hit rate, or 1 if nothing was validated
+         */
+        public double hitRate() {
+            long requests = this.hits + this.misses;
+            return requests == 0 ? 1 : (double) this.hits / requests;
+        }
+
+    }
+
+    /**
+     * Key of a report, weakly referencing its subject. A key whose subject was collected is
+     * only equal to itself, so it can still be removed.
+     */
+    private static final class Key extends WeakReference<Object> {
+
+        private final Object rules;
+        private final String name;
+        private final boolean byContent;
+        private final int hash;
+
+        private Key(Object subject, Object rules, String name, boolean byContent, ReferenceQueue<Object> queue) {
+            super(subject, queue);
+            this.rules = rules;
+            this.name = name;
+            this.byContent = byContent;
+            int subjectHash = byContent ? subject.hashCode() : System.identityHashCode(subject);
+            this.hash = 31 * (31 * subjectHash + rules.hashCode()) + Objects.hashCode(name);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key other) || this.hash != other.hash || !this.rules.equals(other.rules) || !Objects.equals(this.name, other.name)) {
+                return false;
+            }
+            Object subject = get();
+            Object otherSubject = other.get();
+            if (subject == null || otherSubject == null) {
+                return false;
+            }
+            return this.byContent ? subject.equals(otherSubject) : subject == otherSubject;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * A cached report.
+     */
+    private static final class Entry {
+
+        private final Key key;
+        private final ValidationReport report;
+        private volatile boolean referenced;
+        private volatile boolean removed;
+
+        private Entry(Key key, ValidationReport report) {
+            this.key = key;
+            this.report = report;
+        }
+
+    }
+
+    private final int maximumSize;
+    private final boolean byContent;
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+    private final ReferenceQueue<Object> collectedSubjects = new ReferenceQueue<>();
+    private final AtomicInteger removedInClock = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder collected = new LongAdder();
+
+    private ValidationCache(int maximumSize, boolean byContent) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.byContent = byContent;
+    }
+
+    /**
+     * Creates a cache comparing subjects by identity.
+     *
+     * @param maximumSize the maximum number of cached reports
+     * @return a new ValidationCache
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public static ValidationCache byIdentity(int maximumSize) {
+        return new ValidationCache(maximumSize, false);
+    }
+
+    /**
+     * Creates a cache comparing subjects with {@code equals} and {@code hashCode}.
+     *
+     * @param maximumSize the maximum number of cached reports
+     * @return a new ValidationCache
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public static ValidationCache byContent(int maximumSize) {
+        return new ValidationCache(maximumSize, true);
+    }
+
+    /**
+     * Validates the given object with a rule set, or returns its cached report.
+     *
+     * @param rules   the rules
+     * @param subject the object to validate
+     * @param name    the name of the object
+     * @return the report of the rules
+     * @see RuleSet#validate(Object, String)
+     */
+    public ValidationReport validate(RuleSet rules, Object subject, String name) {
+        return validate(rules, subject, name, rules::validate);
+    }
+
+    /**
+     * Validates the given object with a checker plan, or returns its cached report.
+     *
+     * @param <T>     the type of the object
+     * @param spec    the checker plan
+     * @param subject the object to validate
+     * @param name    the name of the object
+     * @return the report of the plan
+     * @see CheckerSpec#validate(Object, String)
+     */
+    public <T> ValidationReport validate(CheckerSpec<T, ?> spec, T subject, String name) {
+        return validate(spec, subject, name, spec::validate);
+    }
+
+    /**
+     * Validates the given object with any validation, or returns its cached report.
+     *
+     * @param <T>        the type of the object
+     * @param rules      identifies the rules of the validation, compared with {@code equals}
+     * @param subject    the object to validate
+     * @param name       the name of the object
+     * @param validation runs the validation on a miss
+     * @return the report of the validation
+     */
+    public <T> ValidationReport validate(Object rules, T subject, String name, BiFunction<? super T, String, ValidationResult> validation) {
+        if (subject == null) {
+            this.misses.increment();
+            return validation.apply(subject, name).toReport();
+        }
+        expungeCollected();
+
+        Entry entry = this.cache.get(new Key(subject, rules, name, this.byContent, null));
+        if (entry != null) {
+            entry.referenced = true;
+            this.hits.increment();
+            return entry.report;
+        }
+        this.misses.increment();
+
+        ValidationReport report = validation.apply(subject, name).toReport();
+        entry = new Entry(new Key(subject, rules, name, this.byContent, this.collectedSubjects), report);
+        if (this.cache.putIfAbsent(entry.key, entry) == null) {
+            this.clock.offer(entry);
+            evict();
+        }
+        return report;
+    }
+
+    /**
+     * Sweeps the clock, evicting the reports not hit since the last pass, until the cache is
+     * within its maximum size.
+     */
+    private void evict() {
+        while (this.cache.size() > this.maximumSize) {
+            Entry entry = this.clock.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entry.removed) {
+                this.removedInClock.decrementAndGet();
+            } else if (entry.referenced) {
+                entry.referenced = false;
+                this.clock.offer(entry);
+            } else if (this.cache.remove(entry.key, entry)) {
+                entry.removed = true;
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Drops the reports whose subject was collected.
+     */
+    private void expungeCollected() {
+        Reference<?> reference;
+        while ((reference = this.collectedSubjects.poll()) != null) {
+            Entry entry = this.cache.remove(reference);
+            if (entry != null) {
+                this.collected.increment();
+                markRemoved(entry);
+            }
+        }
+    }
+
+    private void markRemoved(Entry entry) {
+        entry.removed = true;
+        if (this.removedInClock.incrementAndGet() > this.maximumSize) {
+            this.removedInClock.set(0);
+            this.clock.removeIf(queued -> queued.removed);
+        }
+    }
+
+    /**
+     * Drops every report of the given rules, for instance when they are replaced.
+     *
+     * @param rules the rules
+     */
+    public void invalidate(Object rules) {
+        for (Key key : this.cache.keySet()) {
+            if (key.rules.equals(rules)) {
+                Entry entry = this.cache.remove(key);
+                if (entry != null) {
+                    markRemoved(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every report.
+     */
+    public void invalidateAll() {
+        this.cache.clear();
+        this.clock.clear();
+        this.removedInClock.set(0);
+    }
+
+    /**
+     * Returns the number of cached reports, including those whose subject was collected but
+     * not yet dropped.
+     *
+     * @return the number of cached reports
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Returns the maximum number of cached reports.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics
+     */
+    public Stats getStats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.collected.sum(), this.cache.size());
+    }
+
+}
@@ -0,0 +1,294 @@
+package com.luchersol.core.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.fusesource.jansi.Ansi;
+import org.fusesource.jansi.Ansi.Color;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Immutable snapshot of the checks recorded by an {@link ExceptionTracker}, with their messages
+ * already formatted, that can be streamed as JSON Lines, plain text or ANSI text.
+ *
+ * <p>
+ * Unlike {@link ExceptionTracker#show()}, writing a report neither installs an ANSI console
+ * nor prints line by line: every format is written to a buffered {@link Writer} and flushed
+ * once, and only the ANSI format goes through Jansi.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * ValidationReport report = ValidationReport.of(tracker);
+ * try (Writer out = Files.newBufferedWriter(path)) {
+ *     report.writeTo(out, ValidationReport.Format.JSON_LINES);
+ * }
+ * }</pre>
+ */
+public final class ValidationReport {
+
+    private static final JsonFactory JSON = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private static final SerializedString LINE_SEPARATOR = new SerializedString("\n");
+
+    /**
+     * The outcome of a check.
+     */
+    public enum Outcome {
+        /** The check failed. */
+        FAILED("Thrown Exceptions:", Color.RED),
+        /** The check passed. */
+        PASSED("Passed Checks:", Color.GREEN),
+        /** The check was not run. */
+        NOT_CHECKED("Not Checked Exceptions:", Color.YELLOW);
+
+        private final String title;
+        private final Color color;
+
+        Outcome(String title, Color color) {
+            this.title = title;
+            this.color = color;
+        }
+    }
+
+    /**
+     * Output formats of a report.
+     */
+    public enum Format {
+        /** One JSON object per line: a summary, then one line per recorded check. */
+        JSON_LINES,
+        /** The layout of {@link ExceptionTracker#show()}, without colors. */
+        TEXT,
+        /** The layout of {@link ExceptionTracker#show()}, with ANSI colors. */
+        ANSI
+    }
+
+    /**
+     * A recorded check.
+     *
+     * @param outcome the outcome of the check
+     * @param subject the name of the checked object or property
+     * @param code    the message code, negated for failed and not checked checks, or null for literal messages
+     * @param message the formatted message
+     */
+    public record Check(Outcome outcome, String subject, String code, String message) {}
+
+    private final String name;
+    private final long failedCount;
+    private final long passedCount;
+    private final long notCheckedCount;
+    private final boolean failuresRecorded;
+    private final boolean passedRecorded;
+    private final List<Check> checks;
+
+    private ValidationReport(ExceptionTracker exceptionTracker) {
+        this.name = exceptionTracker.getName();
+        this.failedCount = exceptionTracker.getThrownCount();
+        this.passedCount = exceptionTracker.getPassedCount();
+        this.notCheckedCount = exceptionTracker.getNotCheckedCount();
+        this.failuresRecorded = exceptionTracker.isTrackingFailures();
+        this.passedRecorded = exceptionTracker.isTrackingPassedChecks();
+
+        List<Check> checks = new ArrayList<>();
+        collect(checks, Outcome.FAILED, exceptionTracker.getThrownExceptions());
+        collect(checks, Outcome.PASSED, exceptionTracker.getPassedChecks());
+        collect(checks, Outcome.NOT_CHECKED, exceptionTracker.getNotCheckedExceptions());
+        this.checks = Collections.unmodifiableList(checks);
+    }
+
+    /**
+     * Extracts a report from the given tracker.
+     *
+     * @param exceptionTracker the tracker
+     * @return a new ValidationReport
+     */
+    public static ValidationReport of(ExceptionTracker exceptionTracker) {
+        return new ValidationReport(exceptionTracker);
+    }
+
+    private static void collect(List<Check> checks, Outcome outcome, Map<String, Set<CheckerException>> exceptions) {
+        exceptions.forEach((subject, set) -> {
+            for (CheckerException exception : set) {
+                checks.add(new Check(outcome, subject, exception.getCheckerMessage().getCode(), exception.getMessage()));
+            }
+        });
+    }
+
+    /**
+     * Returns the name of the validated object.
+     *
+     * @return the name of the report
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of checks with the given outcome, including those not recorded.
+     *
+     * @param outcome the outcome
+     * @return the number of checks
+     */
+    public long getCount(Outcome outcome) {
+        return switch (outcome) {
+            case FAILED -> this.failedCount;
+            case PASSED -> this.passedCount;
+            case NOT_CHECKED -> this.notCheckedCount;
+        };
+    }
+
+    /**
+     * Returns whether the checks with the given outcome were recorded, or only counted.
+     *
+     * @param outcome the outcome
+     * @return true if the checks were recorded
+     */
+    public boolean isRecorded(Outcome outcome) {
+        return outcome == Outcome.PASSED ? this.passedRecorded : this.failuresRecorded;
+    }
+
+    /**
+     * Returns whether no check failed.
+     *
+     * @return true if the object is valid
+     */
+    public boolean isValid() {
+        return this.failedCount == 0;
+    }
+
+    /**
+     * Returns the recorded checks: failed, then passed, then not checked.
+     *
+     * @return an unmodifiable list of checks
+     */
+    public List<Check> getChecks() {
+        return this.checks;
+    }
+
+    /**
+     * Returns the recorded checks with the given outcome.
+     *
+     * @param outcome the outcome
+     * @return a new list of checks
+     */
+    public List<Check> getChecks(Outcome outcome) {
+        return this.checks.stream().filter(check -> check.outcome() == outcome).toList();
+    }
+
+    /**
+     * Writes this report to the given stream as UTF-8. The stream is flushed but not closed.
+     *
+     * @param out    the stream
+     * @param format the format
+     * @throws UncheckedIOException if the report cannot be written
+     */
+    public void writeTo(OutputStream out, Format format) {
+        writeTo(new OutputStreamWriter(out, StandardCharsets.UTF_8), format);
+    }
+
+    /**
+     * Writes this report to the given writer, buffering it if needed. The writer is flushed but
+     * not closed.
+     *
+     * @param writer the writer
+     * @param format the format
+     * @throws UncheckedIOException if the report cannot be written
+     */
+    public void writeTo(Writer writer, Format format) {
+        Writer out = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        try {
+            switch (format) {
+                case JSON_LINES -> writeJsonLines(out);
+                case TEXT -> writeText(out, false);
+                case ANSI -> writeText(out, true);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJsonLines(Writer out) throws IOException {
+        try (JsonGenerator generator = JSON.createGenerator(out)) {
+            generator.setRootValueSeparator(LINE_SEPARATOR);
+
+            generator.writeStartObject();
+            generator.writeStringField("type", "summary");
+            generator.writeStringField("report", this.name);
+            generator.writeBooleanField("valid", isValid());
+            generator.writeNumberField("failed", this.failedCount);
+            generator.writeNumberField("passed", this.passedCount);
+            generator.writeNumberField("notChecked", this.notCheckedCount);
+            generator.writeEndObject();
+
+            for (Check check : this.checks) {
+                generator.writeStartObject();
+                generator.writeStringField("type", "check");
+                generator.writeStringField("report", this.name);
+                generator.writeStringField("outcome", check.outcome().name().toLowerCase(Locale.ROOT));
+                generator.writeStringField("subject", check.subject());
+                generator.writeStringField("code", check.code());
+                generator.writeStringField("message", check.message());
+                generator.writeEndObject();
+            }
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeText(Writer out, boolean ansi) throws IOException {
+        for (Outcome outcome : Outcome.values()) {
+            out.write(ansi ? Ansi.ansi().bold().a(outcome.title).reset().toString() : outcome.title);
+            out.write('\n');
+
+            long count = getCount(outcome);
+            List<Check> checks = getChecks(outcome);
+            if (!isRecorded(outcome) && count > 0) {
+                writeLine(out, 1, count + " (not recorded)", outcome.color, ansi);
+            } else if (checks.isEmpty()) {
+                writeLine(out, 1, "CLEAN", Color.GREEN, ansi);
+            } else {
+                String subject = null;
+                for (Check check : checks) {
+                    if (!check.subject().equals(subject)) {
+                        subject = check.subject();
+                        writeLine(out, 1, subject, Color.BLUE, ansi);
+                    }
+                    writeLine(out, 2, " - " + check.message(), outcome.color, ansi);
+                }
+            }
+        }
+    }
+
+    private static void writeLine(Writer out, int indent, String text, Color color, boolean ansi) throws IOException {
+        for (int i = 0; i < indent; i++) {
+            out.write('\t');
+        }
+        out.write(ansi ? Ansi.ansi().fg(color).bold().a(text).reset().toString() : text);
+        out.write('\n');
+    }
+
+    @Override
+    public String toString() {
+        StringWriter writer = new StringWriter();
+        writeTo(writer, Format.TEXT);
+        return writer.toString();
+    }
+
+}
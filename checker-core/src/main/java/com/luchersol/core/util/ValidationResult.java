@@ -0,0 +1,165 @@
+package com.luchersol.core.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The outcome of a validation, returned instead of throwing a {@link CheckerException}.
+ *
+ * <p>
+ * A result either wraps the {@link ExceptionTracker} that received the checks, or holds the
+ * failures of an exception-free {@link AbstractChecker#validate} evaluation, for which no
+ * exception is created unless {@link #getErrors()} or {@link #getExceptionTracker()} is
+ * called. Both can be inspected as a simple valid/invalid answer, as the list of failed
+ * checks, or shown like any other tracker.
+ */
+public final class ValidationResult {
+
+    private final String name;
+    private final List<Evaluation.Failure> failures;
+    private final long failedCount;
+    private volatile ExceptionTracker exceptionTracker;
+
+    private ValidationResult(String name, List<Evaluation.Failure> failures, long failedCount, ExceptionTracker exceptionTracker) {
+        this.name = name;
+        this.failures = failures;
+        this.failedCount = failedCount;
+        this.exceptionTracker = exceptionTracker;
+    }
+
+    /**
+     * Creates a result from the tracker that received the checks.
+     *
+     * @param exceptionTracker the tracker of the validation
+     * @return a new ValidationResult
+     */
+    public static ValidationResult of(ExceptionTracker exceptionTracker) {
+        exceptionTracker.markShared();
+        return new ValidationResult(exceptionTracker.getName(), null, 0, exceptionTracker);
+    }
+
+    /**
+     * Creates a result from an exception-free evaluation.
+     *
+     * @param name       the name of the validated object
+     * @param evaluation the evaluation
+     * @return a new ValidationResult
+     */
+    static ValidationResult of(String name, Evaluation evaluation) {
+        return new ValidationResult(name, evaluation.getFailures(), evaluation.getFailedCount(), null);
+    }
+
+    /**
+     * Returns the name of the validated object.
+     *
+     * @return the name of the validated object
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns whether no check failed.
+     *
+     * @return true if the object is valid
+     */
+    public boolean isValid() {
+        return getErrorCount() == 0;
+    }
+
+    /**
+     * Returns whether at least one check failed.
+     *
+     * @return true if the object is not valid
+     */
+    public boolean hasErrors() {
+        return getErrorCount() > 0;
+    }
+
+    /**
+     * Returns the number of failed checks, including those not recorded.
+     *
+     * @return the number of failed checks
+     */
+    public long getErrorCount() {
+        return this.failures == null ? this.exceptionTracker.getThrownCount() : this.failedCount;
+    }
+
+    /**
+     * Returns the recorded failed checks, in the order they were recorded.
+     *
+     * @return a new list of failed checks
+     */
+    public List<CheckerException> getErrors() {
+        List<CheckerException> errors = new ArrayList<>();
+        for (Set<CheckerException> exceptions : getExceptionTracker().getThrownExceptions().values()) {
+            errors.addAll(exceptions);
+        }
+        return errors;
+    }
+
+    /**
+     * Returns the messages of the recorded failed checks.
+     *
+     * @return a new list of messages
+     */
+    public List<String> getMessages() {
+        if (this.failures == null) {
+            return getErrors().stream().map(CheckerException::getMessage).toList();
+        }
+        return this.failures.stream().map(failure -> failure.message().getMessage()).toList();
+    }
+
+    /**
+     * Returns the tracker of the validation. For an exception-free evaluation it is built on
+     * first access, with a child tracker for every checked property.
+     *
+     * @return the exception tracker
+     */
+    public ExceptionTracker getExceptionTracker() {
+        ExceptionTracker exceptionTracker = this.exceptionTracker;
+        if (exceptionTracker == null) {
+            exceptionTracker = toExceptionTracker();
+            this.exceptionTracker = exceptionTracker;
+        }
+        return exceptionTracker;
+    }
+
+    /**
+     * Extracts an immutable report of the checks of this validation.
+     *
+     * @return a new ValidationReport
+     */
+    public ValidationReport toReport() {
+        return ValidationReport.of(getExceptionTracker());
+    }
+
+    /**
+     * Prints the failed checks to the console.
+     */
+    public void show() {
+        getExceptionTracker().showThrownException();
+    }
+
+    private ExceptionTracker toExceptionTracker() {
+        ExceptionTracker exceptionTracker = ExceptionTracker.empty(this.name);
+        Map<String, ExceptionTracker> children = new LinkedHashMap<>();
+        for (Evaluation.Failure failure : this.failures) {
+            ExceptionTracker target = failure.name().equals(this.name)
+                    ? exceptionTracker
+                    : children.computeIfAbsent(failure.name(), exceptionTracker::createChild);
+            target.addThrownException(new CheckerException(failure.message()));
+        }
+        children.values().forEach(exceptionTracker::merge);
+        return exceptionTracker;
+    }
+
+    @Override
+    public String toString() {
+        return getName() + (isValid() ? " - valid" : " - " + getErrorCount() + " errors");
+    }
+
+}
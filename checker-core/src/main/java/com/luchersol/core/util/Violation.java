@@ -0,0 +1,35 @@
+package com.luchersol.core.util;
+
+import java.util.Locale;
+
+/**
+ * A failed check handed off to a {@link ViolationPipeline}. The message of the exception is
+ * not formatted until a {@link ViolationSink} asks for it, and is then formatted in the
+ * locale of the thread that published it rather than the one of the pipeline thread.
+ *
+ * @param subject   the name of the checked object or property
+ * @param exception the exception of the failed check
+ * @param timestamp the time at which the check failed, in milliseconds since the epoch
+ * @param locale    the locale of the publishing thread when the check failed
+ */
+public record Violation(String subject, CheckerException exception, long timestamp, Locale locale) {
+
+    /**
+     * Returns the code of the message of the failed check.
+     *
+     * @return the negated message code, or null for literal messages
+     */
+    public String code() {
+        return this.exception.getCheckerMessage().getCode();
+    }
+
+    /**
+     * Formats the message of the failed check in the locale of the publishing thread.
+     *
+     * @return the formatted message
+     */
+    public String message() {
+        return this.exception.getCheckerMessage().getMessage(this.locale);
+    }
+
+}
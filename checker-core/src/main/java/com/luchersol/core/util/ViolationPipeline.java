@@ -0,0 +1,440 @@
+package com.luchersol.core.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands off violations from the threads running checks to a set of {@link ViolationSink}s,
+ * through a bounded lock-free ring buffer drained by a single background thread, so that
+ * formatting messages and writing them never happens on the thread that failed the check.
+ *
+ * <p>
+ * Publishing costs one compare-and-set on the ring buffer: the violation keeps the
+ * {@link CheckerException} as is and its message is formatted by the sinks. When the buffer is
+ * full, the {@link OverflowPolicy} decides whether the violation is dropped, sampled or whether
+ * the publisher waits for room.
+ *
+ * <p>Typical usage:
+ * <pre>{@code
+ * ViolationPipeline pipeline = ViolationPipeline.of(4096,
+ *         LoggerViolationSink.of(System.getLogger("validation"), 100),
+ *         JsonLinesViolationSink.open(Path.of("violations.jsonl")))
+ *     .setOverflowPolicy(ViolationPipeline.OverflowPolicy.SAMPLE)
+ *     .start();
+ * tracker.setViolationPipeline(pipeline);
+ * ...
+ * pipeline.close();
+ * }</pre>
+ */
+public final class ViolationPipeline implements AutoCloseable {
+
+    /**
+     * What to do with a violation published when the ring buffer has no room for it.
+     */
+    public enum OverflowPolicy {
+        /** Drop the violation. */
+        DROP,
+        /**
+         * Once the buffer is three quarters full, keep only one of every
+         * {@linkplain #setSampleRate(int) sample rate} violations, and drop the violation if
+         * the buffer is full.
+         */
+        SAMPLE,
+        /**
+         * Wait for the pipeline thread to make room. Violations published by the pipeline
+         * thread itself, or before the pipeline is started, are dropped instead.
+         */
+        BLOCK
+    }
+
+    /**
+     * Maximum number of violations delivered between two flushes of the sinks.
+     */
+    static final int BATCH_SIZE = 256;
+
+    /**
+     * Maximum capacity of the ring buffer.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Ring buffer. A slot may be written at position {@code p} when its sequence is {@code p},
+     * and read when its sequence is {@code p + 1}; reading it sets its sequence to
+     * {@code p + capacity}, the next position that may write it.
+     */
+    private final Violation[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final int highWaterMark;
+
+    /**
+     * Next position to write, which is also the number of violations accepted.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next position to read, only written by the consuming thread.
+     */
+    private volatile long head;
+
+    /**
+     * Number of violations delivered to the sinks, only written by the consuming thread.
+     */
+    private volatile long delivered;
+
+    private final List<ViolationSink> sinks;
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private volatile int sampleRate = 10;
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sinkErrors = new LongAdder();
+
+    private volatile Thread drainer;
+    private volatile boolean idle;
+    private volatile boolean closed;
+
+    private ViolationPipeline(int capacity, List<ViolationSink> sinks) {
+        int size = Integer.highestOneBit(capacity);
+        size = size < capacity ? size << 1 : size;
+        this.slots = new Violation[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.highWaterMark = size - size / 4;
+        this.sinks = sinks;
+    }
+
+    /**
+     * Creates a pipeline, not yet started, delivering to the given sinks in order.
+     *
+     * @param capacity the minimum capacity of the ring buffer, rounded up to a power of two
+     * @param sinks    the sinks
+     * @return a new ViolationPipeline
+     * @throws IllegalArgumentException if the capacity is not positive or too large, or if there is no sink
+     */
+    public static ViolationPipeline of(int capacity, ViolationSink... sinks) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        if (sinks.length == 0) {
+            throw new IllegalArgumentException("At least one sink is required");
+        }
+        return new ViolationPipeline(capacity, List.of(sinks));
+    }
+
+    /**
+     * Sets what to do with violations published when the ring buffer is full. Defaults to
+     * {@link OverflowPolicy#DROP}.
+     *
+     * @param overflowPolicy the overflow policy
+     * @return this pipeline
+     */
+    public ViolationPipeline setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+        return this;
+    }
+
+    /**
+     * Sets how many violations share one place in the buffer under the
+     * {@link OverflowPolicy#SAMPLE} policy. Defaults to 10.
+     *
+     * @param sampleRate one violation of every {@code sampleRate} is kept
+     * @return this pipeline
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public ViolationPipeline setSampleRate(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate must be positive: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        return this;
+    }
+
+    /**
+     * Starts the daemon thread draining the ring buffer. Violations published before are kept,
+     * within the capacity of the buffer.
+     *
+     * @return this pipeline
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public synchronized ViolationPipeline start() {
+        if (this.closed) {
+            throw new IllegalStateException("The violation pipeline is closed");
+        }
+        if (this.drainer == null) {
+            Thread thread = new Thread(this::drain, "checker-violations-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            this.drainer = thread;
+            thread.start();
+        }
+        return this;
+    }
+
+    /**
+     * Publishes a violation, without formatting its message, remembering the locale of the
+     * current thread to format it later.
+     *
+     * @param subject   the name of the checked object or property
+     * @param exception the exception of the failed check
+     * @return true if the violation was accepted, false if it was dropped
+     */
+    public boolean publish(String subject, CheckerException exception) {
+        if (this.closed) {
+            this.dropped.increment();
+            return false;
+        }
+        Violation violation = new Violation(subject, exception, System.currentTimeMillis(), MessageService.getLocale());
+        boolean accepted = switch (this.overflowPolicy) {
+            case DROP -> offer(violation);
+            case SAMPLE -> !isAboveHighWaterMark() || this.sampleCounter.getAndIncrement() % this.sampleRate == 0 ? offer(violation) : false;
+            case BLOCK -> put(violation);
+        };
+        if (accepted) {
+            if (this.idle) {
+                LockSupport.unpark(this.drainer);
+            }
+        } else {
+            this.dropped.increment();
+        }
+        return accepted;
+    }
+
+    private boolean offer(Violation violation) {
+        long position = this.tail.get();
+        while (true) {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.slots[index] = violation;
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+    }
+
+    private boolean put(Violation violation) {
+        Thread current = Thread.currentThread();
+        while (!offer(violation)) {
+            Thread drainer = this.drainer;
+            if (drainer == null || drainer == current || !drainer.isAlive() || this.closed || current.isInterrupted()) {
+                return false;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Takes the next violation. Only called by the consuming thread.
+     */
+    private Violation poll() {
+        long position = this.head;
+        int index = (int) (position & this.mask);
+        if (this.sequences.get(index) != position + 1) {
+            return null;
+        }
+        Violation violation = this.slots[index];
+        this.slots[index] = null;
+        this.sequences.set(index, position + this.slots.length);
+        this.head = position + 1;
+        return violation;
+    }
+
+    private boolean isAboveHighWaterMark() {
+        return this.tail.get() - this.head >= this.highWaterMark;
+    }
+
+    private void drain() {
+        while (true) {
+            if (drainBatch() == 0) {
+                if (this.closed && size() == 0) {
+                    break;
+                }
+                this.idle = true;
+                if (size() == 0) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                } else {
+                    Thread.yield();
+                }
+                this.idle = false;
+            }
+        }
+        closeSinks();
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        Violation violation;
+        while (count < BATCH_SIZE && (violation = poll()) != null) {
+            for (ViolationSink sink : this.sinks) {
+                try {
+                    sink.accept(violation);
+                } catch (Throwable e) {
+                    this.sinkErrors.increment();
+                }
+            }
+            count++;
+        }
+        if (count > 0) {
+            for (ViolationSink sink : this.sinks) {
+                try {
+                    sink.flush();
+                } catch (Throwable e) {
+                    this.sinkErrors.increment();
+                }
+            }
+            this.delivered += count;
+        }
+        return count;
+    }
+
+    private void closeSinks() {
+        for (ViolationSink sink : this.sinks) {
+            try {
+                sink.close();
+            } catch (Throwable e) {
+                this.sinkErrors.increment();
+            }
+        }
+    }
+
+    /**
+     * Waits until every violation accepted before this call has been delivered to the sinks.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return true if the violations were delivered, false if the timeout elapsed or the
+     *         pipeline thread stopped
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+        long target = this.tail.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (this.delivered < target) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Thread drainer = this.drainer;
+            if (drainer != null && !drainer.isAlive()) {
+                return this.delivered >= target;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(this, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of violations waiting in the ring buffer.
+     *
+     * @return the number of queued violations
+     */
+    public int size() {
+        return (int) Math.max(this.tail.get() - this.head, 0);
+    }
+
+    /**
+     * Returns the capacity of the ring buffer.
+     *
+     * @return the capacity, a power of two
+     */
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns the number of violations accepted into the ring buffer.
+     *
+     * @return the number of accepted violations
+     */
+    public long getPublishedCount() {
+        return this.tail.get();
+    }
+
+    /**
+     * Returns the number of violations delivered to the sinks.
+     *
+     * @return the number of delivered violations
+     */
+    public long getDeliveredCount() {
+        return this.delivered;
+    }
+
+    /**
+     * Returns the number of violations dropped by the overflow policy or published after
+     * the pipeline was closed.
+     *
+     * @return the number of dropped violations
+     */
+    public long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Returns the number of exceptions and errors thrown by the sinks, which are otherwise
+     * ignored.
+     *
+     * @return the number of sink errors
+     */
+    public long getSinkErrorCount() {
+        return this.sinkErrors.sum();
+    }
+
+    /**
+     * Stops accepting violations, waits until the queued ones have been delivered and closes
+     * the sinks. A pipeline that was never started delivers them on the calling thread.
+     */
+    @Override
+    public void close() {
+        Thread drainer;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            drainer = this.drainer;
+        }
+        if (drainer == null) {
+            while (drainBatch() > 0) {
+                // deliver what was published before closing
+            }
+            closeSinks();
+        } else if (drainer != Thread.currentThread()) {
+            LockSupport.unpark(drainer);
+            boolean interrupted = false;
+            while (drainer.isAlive()) {
+                try {
+                    drainer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
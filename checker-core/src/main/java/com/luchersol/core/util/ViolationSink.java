@@ -0,0 +1,33 @@
+package com.luchersol.core.util;
+
+/**
+ * Destination of the violations drained by a {@link ViolationPipeline}.
+ *
+ * <p>
+ * All the methods of a sink are called from the single thread of its pipeline, so sinks need
+ * no synchronization of their own, except for the state they expose to other threads.
+ */
+@FunctionalInterface
+public interface ViolationSink extends AutoCloseable {
+
+    /**
+     * Receives a violation.
+     *
+     * @param violation the violation
+     */
+    void accept(Violation violation);
+
+    /**
+     * Called after every batch of violations, so that buffering sinks can write it out.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Called once, when the pipeline is closed, after the last violation has been received.
+     */
+    @Override
+    default void close() {
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class AsyncCheckerTest {
+
+    @Test
+    void testValidate() {
+        Persona.InnerPerson person = new Persona.InnerPerson("Lucas", 23);
+        ValidationResult result = Checker.checkAsync(person, "person")
+                .check(checker -> checker.isNonNull())
+                .check(Persona.InnerPerson::getName, "name", checker -> checker.isNull())
+                .check(checker -> checker.isNull())
+                .validate()
+                .join();
+
+        assertFalse(result.isValid());
+        assertEquals("person", result.getName());
+        assertEquals(2, result.getErrorCount());
+        assertEquals(1, result.getExceptionTracker().getPassedCount());
+        assertEquals(List.of("person", "person.name"), List.copyOf(result.getExceptionTracker().getThrownExceptions().keySet()));
+    }
+
+    @Test
+    void testSpecializedAndEmpty() {
+        ValidationResult result = Checker.checkAsync("lucas", "username")
+                .check(CheckerString::check, checker -> checker.min(2).max(11).matches("[a-z]+"))
+                .validate()
+                .join();
+        assertTrue(result.isValid());
+        assertTrue(result.getErrors().isEmpty());
+
+        assertTrue(Checker.checkAsync(null, "empty").validate().join().isValid());
+    }
+
+    @Test
+    void testGroupsRunConcurrentlyOnTheExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch both = new CountDownLatch(2);
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            ValidationResult result = Checker.checkAsync("value", "value")
+                    .executor(executor)
+                    .check(checker -> await(both, threads))
+                    .check(checker -> await(both, threads))
+                    .validate()
+                    .orTimeout(10, TimeUnit.SECONDS)
+                    .join();
+
+            assertTrue(result.isValid());
+            assertEquals(2, threads.size());
+            assertFalse(threads.contains(Thread.currentThread().getName()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testThrownExceptionsAreRecorded() {
+        ValidationResult result = Checker.checkAsync("value", "value")
+                .check(checker -> { throw new IllegalStateException("unreadable"); })
+                .check(checker -> checker.isNonNull())
+                .validate()
+                .join();
+
+        assertTrue(result.hasErrors());
+        assertEquals(1, result.getErrorCount());
+        assertTrue(result.getMessages().get(0).contains("unreadable"));
+    }
+
+    private static void await(CountDownLatch latch, Set<String> threads) {
+        threads.add(Thread.currentThread().getName());
+        latch.countDown();
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+import com.luchersol.core.util.BatchReport.Failure;
+
+class BatchValidatorTest {
+
+    private static final CheckerSpec<String, CheckerString> SHORT = CheckerSpec.of(CheckerString::check,
+            checker -> checker.max(4));
+
+    private static final List<String> ROWS = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 7 == 0 ? "invalid" : "ok")
+            .collect(Collectors.toList());
+
+    private static final List<Long> EXPECTED = IntStream.range(0, 10_000)
+            .filter(i -> i % 7 == 0)
+            .mapToObj(i -> (long) i)
+            .collect(Collectors.toList());
+
+    @Test
+    void testCheckAll() {
+        BatchReport report = Checker.checkAll(ROWS, "rows", SHORT);
+        assertEquals(10_000, report.getTotal());
+        assertEquals(EXPECTED.size(), report.getFailedCount());
+        assertEquals(EXPECTED, indices(report));
+        assertTrue(report.hasErrors());
+
+        Failure first = report.getFailures().get(0);
+        assertEquals("rows[0]", first.exceptionTracker().getName());
+        assertEquals(1, first.exceptionTracker().getThrownCount());
+    }
+
+    @Test
+    void testParallelismAndChunking() {
+        for (int parallelism : new int[]{ 1, 4 }) {
+            for (int chunkSize : new int[]{ 1, 100, 20_000 }) {
+                BatchReport report = BatchValidator.of(SHORT)
+                        .setParallelism(parallelism)
+                        .setChunkSize(chunkSize)
+                        .validate(ROWS, "rows");
+                assertEquals(EXPECTED, indices(report));
+            }
+        }
+    }
+
+    @Test
+    void testSpliteratorAndArray() {
+        BatchReport linked = BatchValidator.of(SHORT).setChunkSize(333).setParallelism(3).validate(new LinkedList<>(ROWS), "rows");
+        assertEquals(10_000, linked.getTotal());
+        assertEquals(EXPECTED, indices(linked));
+
+        BatchReport stream = BatchValidator.of(SHORT).validate(ROWS.stream().spliterator(), "rows");
+        assertEquals(EXPECTED, indices(stream));
+
+        BatchReport array = Checker.checkAll(new String[]{ "ok", "invalid", null }, "rows", SHORT);
+        assertEquals(3, array.getTotal());
+        assertEquals(List.of(1L), indices(array));
+    }
+
+    @Test
+    void testViolationBudget() {
+        CheckerSpec<String, CheckerString> spec = CheckerSpec.of(CheckerString::check,
+                checker -> checker.max(4).min(10).isBlank());
+        BatchReport report = BatchValidator.of(spec)
+                .setTrackingLevel(ExceptionTracker.TrackingLevel.ALL)
+                .setViolationBudget(1)
+                .validate(List.of("invalid"), "rows");
+
+        ExceptionTracker tracker = report.getFailures().get(0).exceptionTracker();
+        assertEquals(1, tracker.getThrownCount());
+        assertEquals(2, tracker.getNotCheckedCount());
+    }
+
+    @Test
+    void testMaxRecordedFailures() {
+        BatchReport report = BatchValidator.of(SHORT)
+                .setParallelism(4)
+                .setChunkSize(100)
+                .setMaxRecordedFailures(10)
+                .validate(ROWS, "rows");
+        assertEquals(EXPECTED.size(), report.getFailedCount());
+        assertEquals(10, report.getFailures().size());
+        assertTrue(report.isTruncated());
+        assertEquals(EXPECTED.subList(0, 10), indices(report));
+
+        for (int i = 0; i < 20; i++) {
+            BatchReport chunked = BatchValidator.of(SHORT)
+                    .setParallelism(4)
+                    .setChunkSize(50)
+                    .setMaxRecordedFailures(25)
+                    .validate(ROWS.stream().spliterator(), "rows");
+            assertEquals(EXPECTED.size(), chunked.getFailedCount());
+            assertEquals(EXPECTED.subList(0, 25), indices(chunked));
+        }
+
+        BatchReport counted = BatchValidator.of(SHORT).setMaxRecordedFailures(0).validate(ROWS.stream().spliterator(), "rows");
+        assertEquals(EXPECTED.size(), counted.getFailedCount());
+        assertTrue(counted.getFailures().isEmpty());
+        assertTrue(counted.hasErrors());
+        assertFalse(Checker.checkAll(ROWS, "rows", SHORT).isTruncated());
+        assertThrows(IllegalArgumentException.class, () -> BatchValidator.of(SHORT).setMaxRecordedFailures(-1));
+    }
+
+    @Test
+    void testReport() {
+        BatchReport report = Checker.checkAll(List.of("ok", "invalid", "ok", "invalid"), "rows", SHORT);
+        ExceptionTracker tracker = report.toExceptionTracker();
+        assertEquals(2, tracker.getThrownCount());
+        assertTrue(tracker.getThrownExceptions().containsKey("rows[1]"));
+        assertTrue(tracker.getThrownExceptions().containsKey("rows[3]"));
+
+        assertTrue(Checker.checkAll(List.of("ok"), "rows", SHORT).hasNotErrors());
+    }
+
+    @Test
+    void testSamplingPolicy() {
+        BatchReport full = Checker.checkAll(ROWS, "rows", SHORT);
+        assertFalse(full.isSampled());
+        assertEquals(EXPECTED.size(), full.getEstimatedFailedCount());
+
+        BatchReport sampled = BatchValidator.of(SHORT)
+                .setSamplingPolicy(SamplingPolicy.fixed(0.5))
+                .validate(ROWS, "rows");
+        assertTrue(sampled.isSampled());
+        assertEquals(10_000, sampled.getTotal());
+        assertEquals(5_000, sampled.getSampledCount(), 500);
+        assertEquals(sampled.getFailedCount() * 2.0, sampled.getEstimatedFailedCount(), 1e-6);
+        assertEquals(1.0 / 7, sampled.getEstimatedFailureRate(), 0.03);
+        assertTrue(EXPECTED.containsAll(indices(sampled)));
+    }
+
+    private static List<Long> indices(BatchReport report) {
+        return report.getFailures().stream().map(Failure::index).collect(Collectors.toList());
+    }
+
+}
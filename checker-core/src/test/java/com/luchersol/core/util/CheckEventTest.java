@@ -0,0 +1,97 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class CheckEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCheckAndScopeEvents() throws IOException {
+        List<RecordedEvent> events = record(recording -> {
+            recording.enable(CheckEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(ScopeEvent.NAME).withThreshold(Duration.ZERO);
+        });
+
+        List<RecordedEvent> checks = ofType(events, CheckEvent.NAME);
+        assertEquals(4, checks.size());
+        RecordedEvent min = checks.stream().filter(event -> "string.min".equals(event.getString("code"))).findFirst().orElseThrow();
+        assertEquals("username", min.getString("subject"));
+        assertEquals("failed", min.getString("outcome"));
+        assertNull(checks.stream().filter(event -> event.getString("code") == null).findFirst().orElseThrow().getString("code"));
+
+        List<RecordedEvent> scopes = ofType(events, ScopeEvent.NAME);
+        assertEquals(1, scopes.size());
+        assertEquals("person.name", scopes.get(0).getString("scope"));
+        assertEquals("person", scopes.get(0).getString("parent"));
+        assertEquals(1, scopes.get(0).getLong("failed"));
+        assertEquals(1, scopes.get(0).getLong("passed"));
+    }
+
+    @Test
+    void testThreshold() throws IOException {
+        List<RecordedEvent> events = record(recording -> recording.enable(CheckEvent.NAME).withThreshold(Duration.ofMillis(20)));
+
+        List<RecordedEvent> checks = ofType(events, CheckEvent.NAME);
+        assertEquals(1, checks.size());
+        assertEquals("slow", checks.get(0).getString("subject"));
+        assertTrue(checks.get(0).getDuration().toMillis() >= 20);
+    }
+
+    @Test
+    void testDisabledByDefault() throws IOException {
+        List<RecordedEvent> events = record(recording -> {});
+        assertTrue(ofType(events, CheckEvent.NAME).isEmpty());
+        assertTrue(ofType(events, ScopeEvent.NAME).isEmpty());
+    }
+
+    private List<RecordedEvent> record(Consumer<Recording> settings) throws IOException {
+        Path file = this.directory.resolve("checks.jfr");
+        try (Recording recording = new Recording()) {
+            settings.accept(recording);
+            recording.start();
+
+            CheckerString.check("bob", "username").saveErrors().min(5);
+            Checker.check(new Persona.InnerPerson("Lucas", 23), "person").saveErrors()
+                    .checkProperty(Persona.InnerPerson::getName, "name")
+                    .isNonNull()
+                    .is(name -> false, "custom failure")
+                    .end();
+            Checker.check("value", "slow").is(value -> sleep(40));
+
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class CheckMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        CheckMetrics.uninstall();
+    }
+
+    @Test
+    void testRecordsByCode() {
+        CheckMetrics metrics = new CheckMetrics();
+        CheckInstrumentation.setListener(metrics);
+
+        for (String value : List.of("bob", "a", "alice")) {
+            CheckerString.check(value, "username").saveErrors().min(2).isNull();
+        }
+        assertThrows(CheckerException.class, () -> Checker.check("value").is(value -> false, "custom"));
+
+        CheckMetrics.Stats min = metrics.getStats("string.min");
+        assertEquals(3, min.invocations());
+        assertEquals(1, min.failed());
+        assertEquals(1.0 / 3, min.failureRate(), 1e-9);
+        assertEquals(3, metrics.getStats("abstract_checker.is_null").failed());
+        assertEquals(1, metrics.getStats(CheckMetrics.LITERAL_CODE).failed());
+        assertTrue(min.percentileNanos(0.99) >= min.maxNanos() / 2);
+        assertEquals(3, Arrays.stream(min.latencyHistogram()).sum());
+        assertEquals(List.of("abstract_checker.is_null", CheckMetrics.LITERAL_CODE, "string.min"), new ArrayList<>(metrics.getStats().keySet()));
+
+        metrics.reset();
+        assertNull(metrics.getStats("string.min"));
+    }
+
+    @Test
+    void testListenerSeesEveryRunCheck() {
+        List<String> codes = new ArrayList<>();
+        CheckInstrumentation.setListener((message, passed, elapsedNanos) -> codes.add(message.getCode() + "=" + passed));
+
+        assertFalse(CheckerString.check("bob").test(checker -> checker.min(2).max(2).min(1)));
+        CheckerString.check(null, "username").saveErrors().min(2);
+        CheckerString.check("bob", "username").saveErrors().setViolationBudget(1).max(2).min(1);
+
+        assertEquals(List.of("string.min=true", "string.max=false", "string.max=false"), codes);
+
+        codes.clear();
+        CheckInstrumentation.setListener(null);
+        CheckerString.check("bob").min(2);
+        assertTrue(codes.isEmpty());
+        assertFalse(CheckInstrumentation.isEnabled());
+    }
+
+    @Test
+    void testMBean() throws Exception {
+        CheckMetrics metrics = CheckMetrics.install();
+        assertSame(metrics, CheckInstrumentation.getListener());
+        CheckerString.check("bob").saveErrors().min(2).min(5);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CheckMetrics.OBJECT_NAME);
+        TabularData invocations = (TabularData) server.getAttribute(name, "InvocationCounts");
+        assertEquals(2L, invocations.get(new Object[]{ "string.min" }).get("value"));
+        Map<String, Long> failures = metrics.getFailureCounts();
+        assertEquals(Map.of("string.min", 1L), failures);
+
+        CheckMetrics.uninstall();
+        assertFalse(server.isRegistered(name));
+        assertNull(CheckInstrumentation.getListener());
+    }
+
+}
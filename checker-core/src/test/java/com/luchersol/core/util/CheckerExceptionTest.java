@@ -0,0 +1,33 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CheckerExceptionTest {
+
+    private final boolean captureStackTrace = CheckerException.isCaptureStackTrace();
+
+    @AfterEach
+    void restore() {
+        CheckerException.setCaptureStackTrace(captureStackTrace);
+    }
+
+    @Test
+    void testStacklessByDefault() {
+        assertNull(System.getProperty(CheckerException.STACK_TRACE_PROPERTY));
+        assertFalse(CheckerException.isCaptureStackTrace());
+        CheckerException exception = assertThrows(CheckerException.class, () -> Checker.check("abc", "test").isNull());
+        assertEquals(0, exception.getStackTrace().length);
+        assertNotNull(exception.getMessage());
+    }
+
+    @Test
+    void testCaptureStackTrace() {
+        CheckerException.setCaptureStackTrace(true);
+        CheckerException exception = assertThrows(CheckerException.class, () -> Checker.check("abc", "test").isNull());
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+}
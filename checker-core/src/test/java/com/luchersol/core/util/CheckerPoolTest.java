@@ -0,0 +1,96 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class CheckerPoolTest {
+
+    @Test
+    void testRebindResetsState() {
+        CheckerString checker = CheckerString.check("a", "first").saveErrors();
+        checker.min(3);
+        assertTrue(checker.hasErrors());
+
+        checker.rebind("abcd", "second");
+        assertEquals("abcd", checker.getObject());
+        assertFalse(checker.hasErrors());
+        assertEquals("second", checker.exceptionTracker.getName());
+        assertDoesNotThrow(() -> checker.min(3));
+        assertThrows(CheckerException.class, () -> checker.max(2));
+
+        checker.rebind(null, "third");
+        assertDoesNotThrow(() -> checker.max(2));
+        assertEquals(1, checker.exceptionTracker.getNotCheckedCount());
+        assertSame(checker, checker.backObject);
+    }
+
+    @Test
+    void testRebindReusesTracker() {
+        CheckerString checker = CheckerString.check("a", "value");
+        ExceptionTracker tracker = checker.rebind("b", "value").exceptionTracker;
+        checker.saveErrors().min(3);
+        assertEquals(1, tracker.getThrownCount());
+
+        assertSame(tracker, checker.rebind("c", "value").exceptionTracker);
+        assertEquals(0, tracker.getThrownCount());
+        assertTrue(tracker.getThrownExceptions().get("value").isEmpty());
+    }
+
+    @Test
+    void testRebindKeepsMergedTracker() {
+        ExceptionTracker parent = ExceptionTracker.empty("rows");
+        CheckerString checker = CheckerString.check("a", "row");
+        ExceptionTracker first = checker.rebind("a", "row").saveErrors().min(3).exceptionTracker;
+        parent.merge(first);
+
+        checker.rebind("b", "row").saveErrors().max(3);
+        assertNotSame(first, checker.exceptionTracker);
+        assertEquals(1, parent.getThrownCount());
+        assertEquals(1, parent.getThrownExceptions().get("row").size());
+
+        ValidationResult result = ValidationResult.of(checker.exceptionTracker);
+        ExceptionTracker second = checker.exceptionTracker;
+        checker.rebind("c", "row");
+        assertNotSame(second, checker.exceptionTracker);
+        assertEquals(1, result.getExceptionTracker().getPassedCount());
+
+        ExceptionTracker third = checker.exceptionTracker;
+        assertSame(third, checker.rebind("d", "row").exceptionTracker);
+    }
+
+    @Test
+    void testRebindWithTracker() {
+        ExceptionTracker report = ExceptionTracker.empty("report");
+        CheckerString checker = CheckerString.check(null);
+        for (String value : new String[]{ "a", "abcd", "b" }) {
+            checker.rebind(value, "report", report).saveErrors().min(3);
+        }
+        assertEquals(2, report.getThrownCount());
+        assertEquals(1, report.getPassedCount());
+    }
+
+    @Test
+    void testPoolRecyclesCheckers() {
+        CheckerPool<String, CheckerString> pool = CheckerPool.of(CheckerString::check, 1);
+
+        CheckerString first = pool.acquire("abc", "first");
+        pool.release(first);
+        assertEquals(1, pool.size());
+        assertNull(first.getObject());
+
+        CheckerString second = pool.acquire("abcd", "second");
+        assertSame(first, second);
+        assertEquals("abcd", second.getObject());
+        assertEquals(0, pool.size());
+
+        CheckerString third = pool.acquire("abcde", "third");
+        assertNotSame(second, third);
+        pool.release(second);
+        pool.release(third);
+        assertEquals(1, pool.size());
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class CheckerSpecTest {
+
+    private static final CheckerSpec<String, CheckerString> USERNAME = CheckerSpec.of(CheckerString::check,
+            checker -> checker.min(2).max(11).matches("[a-z0-9_]+"));
+
+    @Test
+    void testCheck() {
+        assertDoesNotThrow(() -> USERNAME.check("bob"));
+        assertDoesNotThrow(() -> USERNAME.check("alice_99", "username"));
+        assertThrows(CheckerException.class, () -> USERNAME.check("al", "username"));
+        assertThrows(CheckerException.class, () -> USERNAME.check("Alice", "username"));
+        assertDoesNotThrow(() -> USERNAME.check(null, "username"));
+    }
+
+    @Test
+    void testTest() {
+        assertTrue(USERNAME.test("bob"));
+        assertFalse(USERNAME.test("al"));
+        assertFalse(USERNAME.test("a_very_long_name"));
+        assertTrue(USERNAME.test("bob"));
+
+        List<String> valid = List.of("bob", "al", "carol", "DAVE").stream()
+                .filter(USERNAME.asPredicate())
+                .collect(Collectors.toList());
+        assertEquals(List.of("bob", "carol"), valid);
+    }
+
+    @Test
+    void testValidate() {
+        assertTrue(USERNAME.validate("bob", "username").isValid());
+
+        ValidationResult result = USERNAME.validate("A", "username");
+        assertEquals("username", result.getName());
+        assertEquals(2, result.getErrorCount());
+        assertEquals(2, result.getExceptionTracker().getThrownExceptions().get("username").size());
+    }
+
+    @Test
+    void testCheckWithTracker() {
+        ExceptionTracker tracker = ExceptionTracker.empty("users");
+        assertTrue(USERNAME.check("bob", "first", tracker));
+        assertFalse(USERNAME.check("A", "second", tracker));
+
+        assertEquals(2, tracker.getThrownCount());
+        assertEquals(4, tracker.getPassedCount());
+        assertEquals(2, tracker.getThrownExceptions().get("users").size());
+    }
+
+    @Test
+    void testMatchesChecker() {
+        for (String value : List.of("bob", "al", "Bob", "a_very_long_name", "")) {
+            boolean expected = CheckerString.check(value).saveErrors().min(2).max(11).matches("[a-z0-9_]+").hasNotErrors();
+            assertEquals(expected, USERNAME.test(value), value);
+        }
+    }
+
+    @Test
+    void testCheckerIsReused() {
+        AtomicInteger created = new AtomicInteger();
+        CheckerSpec<String, CheckerString> spec = CheckerSpec.of((value, name) -> {
+            created.incrementAndGet();
+            return CheckerString.check(value, name);
+        }, checker -> checker.isBlank());
+
+        for (int i = 0; i < 1000; i++) {
+            spec.test(i % 2 == 0 ? " " : "x");
+        }
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void testCheckerIsSharedByThreads() throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        CheckerSpec<String, CheckerString> spec = CheckerSpec.of((value, name) -> {
+            created.incrementAndGet();
+            return CheckerString.check(value, name);
+        }, checker -> checker.isBlank());
+
+        for (int i = 0; i < 100; i++) {
+            Thread thread = new Thread(() -> spec.test(" "));
+            thread.start();
+            thread.join();
+        }
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void testNestedApplication() {
+        CheckerSpec<String, CheckerString> outer = CheckerSpec.of(CheckerString::check,
+                checker -> checker.is(value -> USERNAME.test(value.toLowerCase()), Message.ofMessage("lower")));
+
+        assertTrue(outer.test("BOB"));
+        assertFalse(outer.test("AL"));
+    }
+
+    @Test
+    void testScratchTrackerStaysEmpty() {
+        CheckerSpec<Persona.InnerPerson, Checker<Persona.InnerPerson>> spec = CheckerSpec.of(Checker::check,
+                checker -> checker.checkProperty(Persona.InnerPerson::getName, "name").isNonNull().end());
+
+        Persona.InnerPerson person = new Persona.InnerPerson("Lucas", 23);
+        for (int i = 0; i < 10_000; i++) {
+            spec.test(person);
+            spec.check(person, "person");
+        }
+        ExceptionTracker tracker = spec.getScratchTracker();
+        assertEquals(0, tracker.getChildCount());
+        assertEquals(0, tracker.getPassedCount());
+        assertEquals(0, tracker.getThrownCount());
+        assertEquals(ExceptionTracker.TrackingLevel.NONE, tracker.getTrackingLevel());
+    }
+
+    @Test
+    void testConcurrentApplication() {
+        long valid = IntStream.range(0, 20_000).parallel()
+                .mapToObj(i -> i % 3 == 0 ? "x" : "user" + i)
+                .filter(USERNAME.asPredicate())
+                .count();
+        assertEquals(20_000 - 6667, valid);
+    }
+
+}
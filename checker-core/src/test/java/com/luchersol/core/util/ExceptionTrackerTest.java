@@ -0,0 +1,302 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.util.ExceptionTracker.TrackingLevel;
+
+class ExceptionTrackerTest {
+
+    @Test
+    void testHasErrors() {
+        Checker<String> checker = Checker.check("abc", "test").saveErrors();
+        checker.isNonNull();
+        assertFalse(checker.hasErrors());
+        assertTrue(checker.hasNotErrors());
+
+        checker.isNull();
+        assertTrue(checker.hasErrors());
+        assertFalse(checker.hasNotErrors());
+    }
+
+    @Test
+    void testTrackingLevelAll() {
+        Checker<String> checker = Checker.check("abc", "test").saveErrors();
+        checker.isNonNull().isNull();
+        ExceptionTracker tracker = checker.exceptionTracker;
+        assertEquals(1, tracker.getPassedChecks().get("test").size());
+        assertEquals(1, tracker.getThrownExceptions().get("test").size());
+    }
+
+    @Test
+    void testTrackingLevelFailures() {
+        Checker<String> checker = Checker.check("abc", "test").saveErrors().setTrackingLevel(TrackingLevel.FAILURES);
+        for (int i = 0; i < 10_000; i++) {
+            checker.isNonNull();
+        }
+        checker.isNull();
+        ExceptionTracker tracker = checker.exceptionTracker;
+        assertTrue(tracker.getPassedChecks().get("test").isEmpty());
+        assertEquals(10_000, tracker.getPassedCount());
+        assertEquals(1, tracker.getThrownExceptions().get("test").size());
+        assertTrue(checker.hasErrors());
+    }
+
+    @Test
+    void testTrackingLevelNone() {
+        Checker<String> checker = Checker.check("abc", "test").saveErrors().setTrackingLevel(TrackingLevel.NONE);
+        for (int i = 0; i < 10_000; i++) {
+            checker.isNonNull().isNull();
+        }
+        ExceptionTracker tracker = checker.exceptionTracker;
+        assertTrue(tracker.getPassedChecks().get("test").isEmpty());
+        assertTrue(tracker.getThrownExceptions().get("test").isEmpty());
+        assertEquals(10_000, tracker.getPassedCount());
+        assertEquals(10_000, tracker.getThrownCount());
+        assertTrue(checker.hasErrors());
+    }
+
+    @Test
+    void testTrackingLevelIsPropagatedAndMerged() {
+        Checker<Persona.InnerPerson> checker = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+            .saveErrors()
+            .setTrackingLevel(TrackingLevel.FAILURES);
+        Checker<?> property = checker.checkProperty(Persona.InnerPerson::getName, "name");
+        assertEquals(TrackingLevel.FAILURES, property.exceptionTracker.getTrackingLevel());
+
+        Checker<?> back = property.isNull().isNonNull().end();
+        assertEquals(1, back.exceptionTracker.getThrownCount());
+        assertEquals(1, back.exceptionTracker.getPassedCount());
+        assertTrue(back.hasErrors());
+    }
+
+    @Test
+    void testMergedScopesAreNotRetainedBelowAll() {
+        Checker<Persona.InnerPerson> checker = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+            .saveErrors()
+            .setTrackingLevel(TrackingLevel.NONE);
+        for (int i = 0; i < 100_000; i++) {
+            checker.checkProperty(Persona.InnerPerson::getName, "name").isNull().isNonNull().end();
+        }
+        ExceptionTracker tracker = checker.exceptionTracker;
+        assertEquals(0, tracker.getChildCount());
+        assertEquals(100_000, tracker.getThrownCount());
+        assertEquals(100_000, tracker.getPassedCount());
+        assertTrue(tracker.getThrownExceptions().values().stream().allMatch(Set::isEmpty));
+
+        Checker<Persona.InnerPerson> failures = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+            .saveErrors()
+            .setTrackingLevel(TrackingLevel.FAILURES);
+        for (int i = 0; i < 1000; i++) {
+            failures.checkProperty(Persona.InnerPerson::getName, "name").isNull().isNonNull().end();
+        }
+        assertEquals(0, failures.exceptionTracker.getChildCount());
+        assertEquals(1000, failures.exceptionTracker.getThrownExceptions().get("person.name").size());
+        assertTrue(failures.exceptionTracker.getPassedChecks().getOrDefault("person.name", Set.of()).isEmpty());
+    }
+
+    @Test
+    void testCompactTrackerMatchesDefaultTracker() {
+        ExceptionTracker expected = record(ExceptionTracker.empty("person"));
+        ExceptionTracker compact = record(CompactExceptionTracker.empty("person"));
+
+        assertEquals(texts(expected.getThrownExceptions()), texts(compact.getThrownExceptions()));
+        assertEquals(texts(expected.getPassedChecks()), texts(compact.getPassedChecks()));
+        assertEquals(texts(expected.getNotCheckedExceptions()), texts(compact.getNotCheckedExceptions()));
+        assertEquals(expected.getThrownCount(), compact.getThrownCount());
+        assertEquals(expected.hasErrors(), compact.hasErrors());
+    }
+
+    @Test
+    void testCompactTrackerMergesDefaultTracker() {
+        CompactExceptionTracker compact = CompactExceptionTracker.empty("parent");
+        compact.merge(record(ExceptionTracker.empty("child")));
+        assertEquals(Set.of("Object isnt null", "custom failure", "Object is not an instance of Integer"),
+            Set.copyOf(texts(compact.getThrownExceptions()).get("child")));
+    }
+
+    @Test
+    void testAggregatingTrackerGroupsIdenticalChecks() {
+        AggregatingExceptionTracker tracker = new AggregatingExceptionTracker("rows", 2);
+        Checker<String> checker = Checker.check("abc", "row").setExceptionTracker(tracker).saveErrors();
+        for (int i = 0; i < 1000; i++) {
+            checker.isNull().is(value -> false, "custom failure");
+        }
+        checker.isInstance(Integer.class).isInstance(Long.class).isInstance(Integer.class);
+
+        assertEquals(2003, tracker.getThrownCount());
+        assertEquals(4, tracker.size());
+        List<AggregatingExceptionTracker.Group> worst = tracker.getWorstOffenders(2);
+        assertEquals(2, worst.size());
+        assertEquals(1000, worst.get(0).count());
+        assertEquals("abstract_checker.is_null.__not", worst.get(0).code());
+        assertEquals(2, worst.get(0).exemplars().size());
+        assertNull(worst.get(1).code());
+        assertEquals(2, tracker.getGroups(ValidationReport.Outcome.FAILED).get(2).count());
+        assertEquals(7, tracker.getThrownExceptions().get("rows").size());
+    }
+
+    @Test
+    void testAggregatingTrackerMergesChildren() {
+        ExceptionTracker merged = record(AggregatingExceptionTracker.empty("person"));
+        ExceptionTracker expected = record(ExceptionTracker.empty("person"));
+        assertEquals(texts(expected.getThrownExceptions()), texts(merged.getThrownExceptions()));
+        assertEquals(expected.getNotCheckedCount(), merged.getNotCheckedCount());
+
+        AggregatingExceptionTracker parent = AggregatingExceptionTracker.empty("parent");
+        AggregatingExceptionTracker child = (AggregatingExceptionTracker) parent.createChild("child");
+        Checker<String> checker = Checker.check("abc", "child").setExceptionTracker(child).saveErrors();
+        for (int i = 0; i < 10; i++) {
+            checker.isNull();
+        }
+        parent.merge(child);
+        parent.merge(record(ExceptionTracker.empty("child")));
+
+        AggregatingExceptionTracker.Group group = parent.getWorstOffenders(1).get(0);
+        assertEquals("child", group.subject());
+        assertEquals(11, group.count());
+        assertEquals(AggregatingExceptionTracker.DEFAULT_EXEMPLARS, group.exemplars().size());
+        assertThrows(IllegalArgumentException.class, () -> new AggregatingExceptionTracker("rows", -1));
+    }
+
+    private static ExceptionTracker record(ExceptionTracker tracker) {
+        Checker<Persona.InnerPerson> checker = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+            .setExceptionTracker(tracker)
+            .saveErrors();
+        checker.isNonNull().isNull().is(p -> false, "custom failure");
+        Checker<?> back = checker.checkProperty(Persona.InnerPerson::getName, "name")
+            .isEqual("Lucas")
+            .isInstance(Integer.class)
+            .end();
+        back.setStop(true);
+        back.isNull();
+        return back.exceptionTracker;
+    }
+
+    private static Map<String, List<String>> texts(Map<String, Set<CheckerException>> exceptions) {
+        return exceptions.entrySet().stream()
+            .filter(e -> !e.getValue().isEmpty())
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().stream().map(CheckerException::getMessage).toList()));
+    }
+
+    @Test
+    void testConcurrentTrackerStress() throws Exception {
+        int threads = 16;
+        int iterations = 5_000;
+        ConcurrentExceptionTracker tracker = ConcurrentExceptionTracker.empty("report");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    Checker<Persona.InnerPerson> checker = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+                        .setExceptionTracker(tracker)
+                        .saveErrors();
+                    for (int i = 0; i < iterations; i++) {
+                        checker.isNonNull().isNull();
+                        if (i % 10 == 0) {
+                            checker.checkProperty(Persona.InnerPerson::getName, "name").isNull().end();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int merges = threads * iterations / 10;
+        assertEquals(threads * iterations + merges, tracker.getThrownCount());
+        assertEquals(threads * iterations, tracker.getPassedCount());
+        Map<String, Set<CheckerException>> thrown = tracker.getThrownExceptions();
+        assertEquals(threads * iterations, thrown.get("report").size());
+        assertEquals(merges, thrown.get("person.name").size());
+        assertEquals(threads * iterations, tracker.getPassedChecks().get("report").size());
+    }
+
+    @Test
+    void testNestedScopesAreFlattenedWhenRequested() {
+        int depth = 500;
+        ExceptionTracker root = ExceptionTracker.empty("root");
+        List<ExceptionTracker> scopes = new ArrayList<>(List.of(root));
+        for (int i = 0; i < depth; i++) {
+            ExceptionTracker child = scopes.get(i).createChild("level" + i);
+            Checker.check("abc", "level" + i).setExceptionTracker(child).saveErrors().isNull();
+            scopes.add(child);
+        }
+        for (int i = depth; i > 0; i--) {
+            scopes.get(i - 1).merge(scopes.get(i));
+        }
+
+        assertEquals(depth, root.getThrownCount());
+        Map<String, Set<CheckerException>> thrown = root.getThrownExceptions();
+        assertEquals(Set.of("root", "level0"), thrown.keySet());
+        assertEquals(depth, thrown.get("level0").size());
+    }
+
+    @Test
+    void testMergeIntoItself() {
+        Checker<String> checker = Checker.check("abc", "test").saveErrors();
+        checker.isNull();
+        checker.end();
+        assertEquals(1, checker.exceptionTracker.getThrownCount());
+        assertEquals(1, checker.exceptionTracker.getThrownExceptions().get("test").size());
+    }
+
+    @Test
+    void testViolationBudget() {
+        int[] evaluated = new int[1];
+        Checker<String> checker = Checker.check("abc", "test").saveErrors().setViolationBudget(2);
+        for (int i = 0; i < 5; i++) {
+            checker.is(value -> ++evaluated[0] < 0);
+        }
+        checker.is(value -> ++evaluated[0] > 0);
+
+        assertEquals(2, evaluated[0]);
+        assertEquals(2, checker.exceptionTracker.getThrownCount());
+        assertEquals(0, checker.exceptionTracker.getPassedCount());
+        assertEquals(4, checker.exceptionTracker.getNotCheckedCount());
+        assertTrue(checker.exceptionTracker.isBudgetExhausted());
+        assertThrows(IllegalArgumentException.class, () -> checker.setViolationBudget(0));
+    }
+
+    @Test
+    void testViolationBudgetIsSharedWithNestedCheckers() {
+        Checker<Persona.InnerPerson> checker = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+                .saveErrors()
+                .setViolationBudget(2)
+                .isNull();
+        checker.checkProperty(Persona.InnerPerson::getName, "name").isNull().isNull().isNonNull().end();
+        checker.isNull();
+
+        ExceptionTracker tracker = checker.exceptionTracker;
+        assertEquals(2, tracker.getThrownCount());
+        assertEquals(3, tracker.getNotCheckedCount());
+        assertEquals(1, tracker.getThrownExceptions().get("person.name").size());
+
+        CompactExceptionTracker compact = CompactExceptionTracker.empty("compact");
+        compact.setViolationBudget(1);
+        assertEquals(1, compact.createChild("child").getViolationBudget());
+    }
+
+    @Test
+    void testResetClearsViolationBudget() {
+        Checker<String> checker = Checker.check("abc", "test").rebind("abc", "test").saveErrors().setViolationBudget(1).isNull();
+        checker.rebind("abc", "test").saveErrors().isNull().isNull();
+        assertEquals(ExceptionTracker.UNLIMITED_BUDGET, checker.exceptionTracker.getViolationBudget());
+        assertEquals(2, checker.exceptionTracker.getThrownCount());
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.luchersol.core.specialized_checkers.io.CheckerFile;
+import com.luchersol.core.specialized_checkers.io.CheckerJson;
+
+class IoCheckExecutorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testResultsAreMergedInOrder() throws IOException {
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Path file = this.directory.resolve("file" + i + ".txt");
+            if (i % 4 != 0) {
+                Files.writeString(file, "content");
+            }
+            files.add(file.toFile());
+        }
+
+        for (IoCheckExecutor executor : List.of(IoCheckExecutor.virtualThreads(8), IoCheckExecutor.platformThreads(3))) {
+            ExceptionTracker report = executor.checkAll(files, "uploads",
+                    (file, name) -> CheckerFile.check(file, name).saveErrors().exists().canRead());
+
+            assertEquals(20, report.getThrownCount());
+            assertEquals(60, report.getPassedCount());
+            List<String> names = new ArrayList<>(report.getThrownExceptions().keySet());
+            names.remove("uploads");
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 40; i += 4) {
+                expected.add("uploads[" + i + "]");
+            }
+            assertEquals(expected, names.stream().filter(name -> !report.getThrownExceptions().get(name).isEmpty()).toList());
+        }
+    }
+
+    @Test
+    void testThrownExceptionsAreRecorded() throws IOException {
+        Path valid = Files.writeString(this.directory.resolve("valid.json"), "{\"a\": 1}");
+        Path invalid = Files.writeString(this.directory.resolve("invalid.json"), "{");
+
+        ExceptionTracker report = IoCheckExecutor.platformThreads(2).checkAll(List.of(valid.toFile(), invalid.toFile()), "json",
+                (file, name) -> CheckerJson.check(file, name));
+
+        Map<String, Set<CheckerException>> thrown = report.getThrownExceptions();
+        assertEquals(1, report.getThrownCount());
+        assertTrue(thrown.get("json[0]").isEmpty());
+        assertEquals(1, thrown.get("json[1]").size());
+    }
+
+    @Test
+    void testConcurrencyIsBounded() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            elements.add(i);
+        }
+
+        IoCheckExecutor.virtualThreads(4).checkAll(elements, "sleep", (element, name) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(2);
+            running.decrementAndGet();
+            return Checker.check(element, name);
+        });
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+}
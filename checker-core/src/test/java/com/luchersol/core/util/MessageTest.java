@@ -0,0 +1,95 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class MessageTest {
+
+    @Test
+    void testSendMessageIsLazy() {
+        Message message = MessageService.sendMessage("string", "is_empty");
+        assertEquals("string.is_empty", message.getCode());
+        assertEquals(MessageService.getProperty("string.is_empty"), message.getMessage());
+    }
+
+    @Test
+    void testNegate() {
+        Message message = MessageService.sendMessage("string", "is_empty").negate();
+        assertEquals("string.is_empty.__not", message.getCode());
+        assertEquals(MessageService.getProperty("string.is_empty.__not"), message.getMessage());
+        assertEquals("string.is_empty", message.negate().getCode());
+    }
+
+    @Test
+    void testLiteralMessageIsNotNegated() {
+        assertEquals("custom", Message.ofMessage("custom").negate().getMessage());
+    }
+
+    @Test
+    void testMissingArgumentsUseErrorMessage() {
+        Message message = MessageService.sendMessage("currency", "has_symbol", "$");
+        assertEquals(Message.getErrorMessage().getMessage(), message.getMessage());
+    }
+
+    @Test
+    void testSupplierOnlyCalledOnFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Checker<String> checker = Checker.check("abc", "test");
+
+        checker.is(s -> s.length() == 3, () -> {
+            calls.incrementAndGet();
+            return Message.ofMessage("length is not 3");
+        });
+        assertEquals(0, calls.get());
+
+        CheckerException exception = assertThrows(CheckerException.class, () -> checker.is(s -> s.isEmpty(), () -> {
+            calls.incrementAndGet();
+            return Message.ofMessage("is not empty");
+        }));
+        assertEquals(1, calls.get());
+        assertEquals("is not empty", exception.getMessage());
+    }
+
+    @Test
+    void testThreadLocale() {
+        Message message = MessageService.sendMessage("string", "is_empty").negate();
+        try {
+            MessageService.setLocale(new Locale("es"));
+            assertEquals(new Locale("es"), MessageService.getLocale());
+            assertEquals("La cadena no está vacía", message.getMessage());
+        } finally {
+            MessageService.clearLocale();
+        }
+        assertEquals(Locale.getDefault(), MessageService.getLocale());
+    }
+
+    @Test
+    void testMessageForLocale() {
+        Message message = MessageService.sendMessage("string", "is_empty");
+        assertEquals("La cadena está vacía", message.getMessage(new Locale("es")));
+        assertEquals("String is empty", message.getMessage(Locale.ENGLISH));
+    }
+
+    @Test
+    void testTemplateMatchesStringFormat() {
+        assertFormat("Value %s is %d", "a", 42);
+        assertFormat("At least %.2f%% match", 3.14159);
+        assertFormat("%2$s before %1$s", "a", "b");
+        assertFormat("Flag %b, %5d|%-4s|", true, 7, null);
+        assertFormat("No specifiers", "a");
+        assertEquals("At least 3,14% match", MessageTemplate.compile("At least %.2f%% match").format(new Locale("es"), 3.14159));
+
+        Locale arabic = Locale.forLanguageTag("ar-EG");
+        assertEquals(String.format(arabic, "Size %d of %s", 42, 7L), MessageTemplate.compile("Size %d of %s").format(arabic, 42, 7L));
+        assertNotEquals("Size 42", MessageTemplate.compile("Size %d").format(arabic, 42));
+    }
+
+    private static void assertFormat(String pattern, Object... args) {
+        assertEquals(String.format(Locale.ENGLISH, pattern, args), MessageTemplate.compile(pattern).format(Locale.ENGLISH, args));
+    }
+
+}
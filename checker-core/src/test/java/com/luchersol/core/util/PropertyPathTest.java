@@ -0,0 +1,74 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.util.Persona.InnerPerson;
+
+class PropertyPathTest {
+
+    private static final Persona PERSONA = new Persona(new InnerPerson("Lucas", 23));
+
+    @Test
+    void testFieldsAndMethods() throws Exception {
+        assertEquals("Lucas", Checker.check(PERSONA, "persona").checkProperty("innerPerson.name").getObject());
+        assertEquals(23, Checker.check(PERSONA, "persona").checkProperty("innerPerson.year").getObject());
+        assertEquals("Lucas", Checker.check(PERSONA, "persona").checkProperty("getInnerPerson().getName()").getObject());
+        assertEquals(5, Checker.check(PERSONA, "persona").checkProperty("innerPerson.name.length()").getObject());
+        assertNull(Checker.check(PERSONA, "persona").checkProperty("innerPerson.unknown").getObject());
+        assertNull(Checker.check(PERSONA, "persona").checkProperty("innerPerson.unknown()").getObject());
+    }
+
+    @Test
+    void testArguments() throws Exception {
+        assertEquals("Hola Person String: a", Checker.check(PERSONA, "persona").checkProperty("hola(1)", "a").getObject());
+        assertEquals("Hola InnerPerson Object: 1", Checker.check(PERSONA, "persona").checkProperty("innerPerson.hola(1)", List.of(entry(1, Object.class))).getObject());
+        assertEquals("Hola Person String: a", Checker.check(PERSONA, "persona").checkProperty("hola(str)", Map.<String, Object>of("str", "a")).getObject());
+        assertNull(Checker.check(PERSONA, "persona").checkProperty("hola(1)"));
+        assertNull(Checker.check(PERSONA, "persona").checkProperty("hola(1)", 1).getObject());
+    }
+
+    @Test
+    void testMatchesReflectiveLookup() throws Exception {
+        Object[][] cases = {
+            { "innerPerson.name", new Object[0] },
+            { "innerPerson.year", new Object[0] },
+            { "getInnerPerson().name", new Object[0] },
+            { "innerPerson.hola(1)", new Object[]{ "x" } },
+            { "innerPerson.hola(1)", new Object[]{ 3 } },
+            { "innerPerson.name.isBlank()", new Object[0] },
+            { "missing", new Object[0] },
+        };
+        for (Object[] c : cases) {
+            String path = (String) c[0];
+            Object[] args = (Object[]) c[1];
+            Queue<String> properties = new LinkedList<>(Arrays.asList(path.split("\\.")));
+            Object expected = AbstractChecker.getProperty(PERSONA, properties, new LinkedList<>(Arrays.asList(args)));
+            assertEquals(expected, PropertyPath.of(path).resolve(PERSONA, args), path);
+        }
+    }
+
+    @Test
+    void testPathsAreResolvedPerRuntimeClass() throws Exception {
+        PropertyPath path = PropertyPath.of("isEmpty()");
+        assertSame(path, PropertyPath.of("isEmpty()"));
+        assertEquals(false, path.resolve("abc", new Object[0]));
+        assertEquals(true, path.resolve(new ArrayList<>(), new Object[0]));
+        assertNull(path.resolve(PERSONA, new Object[0]));
+    }
+
+    private static Entry<Object, Class<?>> entry(Object value, Class<?> type) {
+        return new SimpleEntry<>(value, type);
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class RuleSetRegistryTest {
+
+    private static RuleSet compile(String ruleSetId, String version) {
+        return RuleSet.of(Map.of("name", "string.min(" + version + ")"));
+    }
+
+    @Test
+    void testHitsAndMisses() {
+        AtomicInteger compilations = new AtomicInteger();
+        RuleSetRegistry registry = RuleSetRegistry.of((id, version) -> {
+            compilations.incrementAndGet();
+            return compile(id, version);
+        }, 100);
+
+        RuleSet rules = registry.get("acme", "1");
+        assertSame(rules, registry.get("acme", "1"));
+        assertNotSame(rules, registry.get("acme", "2"));
+        assertTrue(rules.test(Map.of("name", "ab")));
+        assertEquals(2, compilations.get());
+
+        RuleSetRegistry.Stats stats = registry.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.loads());
+        assertEquals(2, stats.size());
+        assertEquals(2, stats.weight());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+
+        registry.invalidateAll("acme");
+        assertEquals(0, registry.getWeight());
+        assertFalse(registry.contains("acme", "1"));
+    }
+
+    @Test
+    void testSingleFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger compilations = new AtomicInteger();
+        RuleSetRegistry registry = RuleSetRegistry.of((id, version) -> {
+            compilations.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return compile(id, version);
+        }, 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<RuleSet>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> registry.get("acme", "1")));
+            }
+            while (compilations.get() == 0) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(50);
+            release.countDown();
+            RuleSet first = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<RuleSet> future : futures) {
+                assertSame(first, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, compilations.get());
+        assertEquals(1, registry.getStats().loads());
+    }
+
+    @Test
+    void testSingleFlightFailsEveryWaiterOnError() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger compilations = new AtomicInteger();
+        RuleSetRegistry registry = RuleSetRegistry.of((id, version) -> {
+            compilations.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new NoClassDefFoundError("missing");
+        }, 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<RuleSet>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> registry.get("acme", "1")));
+            }
+            while (compilations.get() == 0) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<RuleSet> future : futures) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(NoClassDefFoundError.class, e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, compilations.get());
+        assertEquals(1, registry.getStats().loadFailures());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void testInvalidationDuringLoadIsNotLost() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger compilations = new AtomicInteger();
+        RuleSetRegistry registry = RuleSetRegistry.of((id, version) -> {
+            compilations.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return compile(id, version);
+        }, 100);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<RuleSet> future = executor.submit(() -> registry.get("acme", "1"));
+            while (compilations.get() == 0) {
+                Thread.sleep(5);
+            }
+            registry.invalidate("acme", "1");
+            release.countDown();
+            assertNotNull(future.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(registry.contains("acme", "1"));
+        assertEquals(0, registry.size());
+        assertEquals(0, registry.getStats().weight());
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() throws Exception {
+        RuleSetRegistry registry = RuleSetRegistry.of(RuleSetRegistryTest::compile, 2);
+
+        registry.get("a", "1");
+        registry.get("b", "1");
+        Thread.sleep(1);
+        registry.get("a", "1");
+        registry.get("c", "1");
+
+        assertTrue(registry.contains("a", "1"));
+        assertFalse(registry.contains("b", "1"));
+        assertTrue(registry.contains("c", "1"));
+        assertEquals(1, registry.getStats().evictions());
+
+        registry.setWeigher(rules -> 2);
+        registry.get("d", "1");
+        assertEquals(1, registry.size());
+        assertEquals(2, registry.getWeight());
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        AtomicInteger attempts = new AtomicInteger();
+        RuleSetRegistry registry = RuleSetRegistry.of((id, version) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("unavailable");
+            }
+            return RuleSet.of(Map.of("name", version));
+        }, 10);
+
+        assertThrows(UncheckedIOException.class, () -> registry.get("acme", "string.isEmpty"));
+        assertNotNull(registry.get("acme", "string.isEmpty"));
+        assertThrows(IllegalArgumentException.class, () -> registry.get("acme", "text.isEmpty"));
+        assertEquals(2, registry.getStats().loadFailures());
+        assertEquals(1, registry.size());
+        assertThrows(IllegalArgumentException.class, () -> RuleSetRegistry.of(RuleSetRegistryTest::compile, 0));
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RuleSetTest {
+
+    record Account(String name, long year) {}
+
+    private static final String RULES = """
+            name: string.inRange(2, 40)
+            age: [required, integer.isPositive]
+            tags: list.allDistinct
+            address.city: string.matches("[A-Za-z ]+")
+            """;
+
+    @Test
+    void testMapSubject() {
+        RuleSet rules = RuleSet.parse(RULES, RuleSet.Format.YAML);
+        assertEquals(List.of("required", "integer.isPositive"), rules.getRules().get("age"));
+
+        Map<String, Object> valid = Map.of("name", "Lucas", "age", 23, "tags", List.of("a", "b"), "address", Map.of("city", "Sevilla"));
+        assertTrue(rules.test(valid));
+        assertTrue(rules.validate(valid, "user").isValid());
+        assertDoesNotThrow(() -> rules.check(valid, "user"));
+
+        Map<String, Object> invalid = new HashMap<>(valid);
+        invalid.put("age", -1);
+        invalid.put("tags", List.of("a", "a"));
+        assertFalse(rules.test(invalid));
+        ValidationResult result = rules.validate(invalid, "user");
+        assertEquals(2, result.getErrorCount());
+        Map<String, Set<CheckerException>> thrown = result.getExceptionTracker().getThrownExceptions();
+        assertEquals(List.of("user.age", "user.tags"), thrown.keySet().stream().filter(key -> !thrown.get(key).isEmpty()).sorted().toList());
+        assertThrows(CheckerException.class, () -> rules.check(invalid, "user"));
+    }
+
+    @Test
+    void testBeanSubjectAndJson() {
+        RuleSet rules = RuleSet.parse("{\"name\": [\"required\", \"string.min(3).startsWith(\\\"Lu\\\")\"], \"year\": \"long.isGreaterThan(1900)\"}", RuleSet.Format.JSON);
+
+        assertTrue(rules.test(new Persona.InnerPerson("Lucas", 1990)));
+        assertFalse(rules.test(new Persona.InnerPerson("Ana", 1990)));
+        assertFalse(rules.test(new Persona.InnerPerson(null, 1990)));
+        assertFalse(rules.validate(new Account("Lucas", 1800), "account").isValid());
+        assertTrue(rules.validate(new Account("Lucas", 1990), "account").isValid());
+    }
+
+    @Test
+    void testMissingAndMistypedValues() {
+        RuleSet rules = RuleSet.of(Map.of("age", "integer.isPositive"));
+
+        ExceptionTracker tracker = ExceptionTracker.empty("user");
+        assertTrue(rules.check(Map.of(), "user", tracker));
+        assertEquals(1, tracker.getNotCheckedCount());
+
+        assertFalse(rules.test(Map.of("age", "23")));
+        assertEquals(1, rules.validate(Map.of("age", "23"), "user").getErrorCount());
+        assertTrue(rules.test(Map.of("age", 23L)));
+        assertFalse(rules.test(Map.of("age", 1L << 40)));
+    }
+
+    @Test
+    void testInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.of(Map.of("name", "text.min(1)")));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.of(Map.of("name", "string.noSuchCheck")));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.of(Map.of("name", "string.min(\"one\")")));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.of(Map.of("name", "string.min(1")));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.of(Map.of("name", 1)));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.parse("- string.isEmpty", RuleSet.Format.YAML));
+    }
+
+    @Test
+    void testFormatOfIgnoresDefaultLocale() {
+        Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertEquals(RuleSet.Format.JSON, RuleSet.formatOf(Path.of("RULES.JSON")));
+            assertEquals(RuleSet.Format.YAML, RuleSet.formatOf(Path.of("RULES.YAML")));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    void testHotReload(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("rules.yaml");
+        Files.writeString(file, "name: string.min(3)");
+
+        try (ReloadingRuleSet rules = ReloadingRuleSet.watch(file)) {
+            RuleSet first = rules.current();
+            assertTrue(rules.test(Map.of("name", "Lucas")));
+
+            replace(file, "name: string.max(3)");
+            awaitTrue(() -> rules.getVersion() == 2);
+            assertFalse(rules.test(Map.of("name", "Lucas")));
+            assertTrue(first.test(Map.of("name", "Lucas")));
+
+            replace(file, "name: string.noSuchCheck");
+            awaitTrue(() -> rules.getLastError() != null);
+            assertEquals(2, rules.getVersion());
+            assertFalse(rules.test(Map.of("name", "Lucas")));
+            assertInstanceOf(IllegalArgumentException.class, rules.getLastError());
+
+            Files.writeString(file, "name: string.isEmpty");
+            assertTrue(rules.reload() || rules.getVersion() == 3);
+            assertNull(rules.getLastError());
+            assertTrue(rules.test(Map.of("name", "")));
+        }
+    }
+
+    @Test
+    void testRevertClearsLastError(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("rules.yaml");
+        Files.writeString(file, "name: string.min(3)");
+
+        try (ReloadingRuleSet rules = ReloadingRuleSet.watch(file)) {
+            replace(file, "name: string.noSuchCheck");
+            assertFalse(rules.reload());
+            assertInstanceOf(IllegalArgumentException.class, rules.getLastError());
+
+            replace(file, "name: string.min(3)");
+            assertFalse(rules.reload());
+            assertNull(rules.getLastError());
+            assertEquals(1, rules.getVersion());
+        }
+    }
+
+    private static void replace(Path file, String rules) throws Exception {
+        Path temp = Files.writeString(file.resolveSibling(file.getFileName() + ".tmp"), rules);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(20);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class SamplingPolicyTest {
+
+    @Test
+    void testFullRate() {
+        SamplingPolicy sampling = SamplingPolicy.fixed(1);
+        Optional<ValidationResult> valid = sampling.validate("bob", "username", CheckerString::check, checker -> checker.min(2));
+        Optional<ValidationResult> invalid = sampling.validate("bob", "username", checker -> checker.isNull());
+
+        assertTrue(valid.orElseThrow().isValid());
+        assertFalse(invalid.orElseThrow().isValid());
+        SamplingPolicy.Stats stats = sampling.getStats();
+        assertEquals(2, stats.seen());
+        assertEquals(2, stats.sampled());
+        assertEquals(1, stats.passed());
+        assertEquals(0.5, stats.estimatedFailureRate());
+        assertEquals(1, stats.coverage());
+    }
+
+    @Test
+    void testFixedRateExtrapolates() {
+        SamplingPolicy sampling = SamplingPolicy.fixed(0.25);
+        for (int i = 0; i < 20_000; i++) {
+            String value = i % 4 == 0 ? "" : "value";
+            sampling.validate(value, "value", CheckerString::check, checker -> checker.min(0));
+        }
+
+        SamplingPolicy.Stats stats = sampling.getStats();
+        assertEquals(20_000, stats.seen());
+        assertEquals(0.25, stats.coverage(), 0.02);
+        assertEquals(stats.failed() * 4.0, stats.estimatedFailed(), 1e-6);
+        assertEquals(0.25, stats.estimatedFailureRate(), 0.03);
+        assertEquals(0.75, stats.estimatedPassRate(), 0.03);
+
+        sampling.reset();
+        assertEquals(0, sampling.getStats().seen());
+        assertEquals(0.25, sampling.getRate());
+    }
+
+    @Test
+    void testAdaptiveRateFollowsBudget() {
+        SamplingPolicy sampling = SamplingPolicy.adaptive(Duration.ofMillis(1))
+                .setWindow(Duration.ofMillis(5))
+                .setMinRate(0.01);
+        assertEquals(1, sampling.getRate());
+
+        long deadline = System.nanoTime() + Duration.ofMillis(300).toNanos();
+        while (System.nanoTime() < deadline) {
+            sampling.validate("value", "value", checker -> checker.is(value -> sleep(1)));
+        }
+
+        assertTrue(sampling.getRate() < 0.2, "rate " + sampling.getRate());
+        assertTrue(sampling.getRate() >= 0.01);
+        assertTrue(sampling.getStats().coverage() < 1);
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.fixed(0));
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.fixed(1.5));
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.adaptive(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.fixed(1).setMinRate(0));
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.fixed(1).setWindow(Duration.ofMillis(-1)));
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+}
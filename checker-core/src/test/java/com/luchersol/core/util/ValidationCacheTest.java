@@ -0,0 +1,98 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class ValidationCacheTest {
+
+    private static final RuleSet RULES = RuleSet.of(Map.of("code", "string.matches(\"[A-Z]{3}\")"));
+
+    @Test
+    void testByIdentity() {
+        ValidationCache cache = ValidationCache.byIdentity(10);
+        Map<String, Object> euro = Map.of("code", "EUR");
+
+        ValidationReport report = cache.validate(RULES, euro, "currency");
+        assertTrue(report.isValid());
+        assertSame(report, cache.validate(RULES, euro, "currency"));
+        assertNotSame(report, cache.validate(RULES, Map.of("code", "EUR"), "currency"));
+        assertNotSame(report, cache.validate(RULES, euro, "other"));
+        assertFalse(cache.validate(RULES, Map.of("code", "euro"), "currency").isValid());
+
+        ValidationCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(4, stats.misses());
+        assertEquals(4, stats.size());
+        assertEquals(0.2, stats.hitRate(), 1e-9);
+
+        cache.invalidate(RULES);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testByContent() {
+        ValidationCache cache = ValidationCache.byContent(10);
+        CheckerSpec<String, CheckerString> spec = CheckerSpec.of(CheckerString::check, checker -> checker.min(2));
+        AtomicInteger validations = new AtomicInteger();
+
+        ValidationReport report = cache.validate(spec, new String("EUR"), "code");
+        assertSame(report, cache.validate(spec, new String("EUR"), "code"));
+        assertEquals(1, cache.getStats().hits());
+
+        RuleSet recompiled = RuleSet.of(RULES.getRules());
+        for (int i = 0; i < 3; i++) {
+            cache.validate(recompiled, Map.of("code", "USD"), "currency", (subject, name) -> {
+                validations.incrementAndGet();
+                return recompiled.validate(subject, name);
+            });
+        }
+        assertEquals(1, validations.get());
+        assertTrue(cache.validate(RULES, null, "currency").isValid());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testClockEviction() {
+        ValidationCache cache = ValidationCache.byContent(2);
+        List<String> hot = List.of("hot");
+
+        cache.validate(RULES, hot, "a", (subject, name) -> RULES.validate(subject, name));
+        cache.validate(RULES, List.of("cold"), "a", (subject, name) -> RULES.validate(subject, name));
+        cache.validate(RULES, hot, "a", (subject, name) -> RULES.validate(subject, name));
+        cache.validate(RULES, List.of("new"), "a", (subject, name) -> RULES.validate(subject, name));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStats().evictions());
+        long hits = cache.getStats().hits();
+        cache.validate(RULES, hot, "a", (subject, name) -> RULES.validate(subject, name));
+        assertEquals(hits + 1, cache.getStats().hits());
+
+        assertThrows(IllegalArgumentException.class, () -> ValidationCache.byIdentity(0));
+    }
+
+    @Test
+    void testCollectedSubjectsAreDropped() throws InterruptedException {
+        ValidationCache cache = ValidationCache.byIdentity(1_000);
+        for (int i = 0; i < 100; i++) {
+            cache.validate(RULES, new ArrayList<>(List.of(i)), "subject", (subject, name) -> RULES.validate(subject, name));
+        }
+        Object kept = new Object();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (cache.getStats().collected() == 0) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            System.gc();
+            Thread.sleep(20);
+            cache.validate(RULES, kept, "kept", (subject, name) -> RULES.validate(subject, name));
+        }
+        assertTrue(cache.size() < 101);
+    }
+
+}
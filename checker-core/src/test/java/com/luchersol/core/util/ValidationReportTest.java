@@ -0,0 +1,97 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luchersol.core.specialized_checkers.CheckerString;
+import com.luchersol.core.util.ExceptionTracker.TrackingLevel;
+import com.luchersol.core.util.ValidationReport.Format;
+import com.luchersol.core.util.ValidationReport.Outcome;
+
+class ValidationReportTest {
+
+    private static ExceptionTracker tracker() {
+        Checker<Persona.InnerPerson> checker = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+                .saveErrors()
+                .isNull()
+                .isNonNull();
+        checker.checkProperty(Persona.InnerPerson::getName, "name").isNull().end();
+        return checker.exceptionTracker;
+    }
+
+    @Test
+    void testModel() {
+        ValidationReport report = tracker().toReport();
+        assertEquals("person", report.getName());
+        assertFalse(report.isValid());
+        assertEquals(2, report.getCount(Outcome.FAILED));
+        assertEquals(1, report.getCount(Outcome.PASSED));
+        assertEquals(List.of("person", "person.name"), report.getChecks(Outcome.FAILED).stream().map(ValidationReport.Check::subject).toList());
+        assertEquals("abstract_checker.is_null.__not", report.getChecks(Outcome.FAILED).get(0).code());
+        assertThrows(UnsupportedOperationException.class, () -> report.getChecks().clear());
+    }
+
+    @Test
+    void testJsonLines() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tracker().toReport().writeTo(out, Format.JSON_LINES);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode summary = mapper.readTree(lines[0]);
+        assertEquals("summary", summary.get("type").asText());
+        assertEquals(2, summary.get("failed").asLong());
+        assertFalse(summary.get("valid").asBoolean());
+
+        JsonNode first = mapper.readTree(lines[1]);
+        assertEquals("failed", first.get("outcome").asText());
+        assertEquals("person", first.get("subject").asText());
+        assertEquals("person.name", mapper.readTree(lines[2]).get("subject").asText());
+        assertEquals("passed", mapper.readTree(lines[3]).get("outcome").asText());
+    }
+
+    @Test
+    void testJsonLinesIgnoresDefaultLocale() throws Exception {
+        Locale locale = Locale.getDefault();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            tracker().toReport().writeTo(out, Format.JSON_LINES);
+        } finally {
+            Locale.setDefault(locale);
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals("failed", mapper.readTree(lines[1]).get("outcome").asText());
+    }
+
+    @Test
+    void testText() {
+        ExceptionTracker tracker = ExceptionTracker.empty("username");
+        tracker.setTrackingLevel(TrackingLevel.FAILURES);
+        CheckerString.check("bob", "username").setExceptionTracker(tracker).saveErrors().min(5).max(10);
+
+        ValidationReport report = tracker.toReport();
+        String text = report.toString();
+        assertTrue(text.startsWith("Thrown Exceptions:\n\tusername\n\t\t - "));
+        assertTrue(text.contains("Passed Checks:\n\t1 (not recorded)\n"));
+        assertTrue(text.contains("Not Checked Exceptions:\n\tCLEAN\n"));
+        assertFalse(text.contains("\u001B["));
+
+        StringWriter ansi = new StringWriter();
+        report.writeTo(ansi, Format.ANSI);
+        assertTrue(ansi.toString().contains("\u001B["));
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class ValidationResultTest {
+
+    @Test
+    void testTest() {
+        CheckerString checker = CheckerString.check("bob", "username");
+        assertTrue(checker.test(c -> c.min(2).max(11).matches("[a-z]+")));
+        assertFalse(checker.test(c -> c.min(2).max(3)));
+        assertFalse(CheckerString.check("Bob").test(c -> c.matches("[a-z]+").min(1)));
+        assertTrue(CheckerString.check(null).test(c -> c.min(10)));
+
+        assertDoesNotThrow(() -> checker.test(c -> c.isNull()));
+        assertThrows(CheckerException.class, () -> checker.isNull());
+    }
+
+    @Test
+    void testTestDoesNotRecord() {
+        CheckerString checker = CheckerString.check("bob", "username").saveErrors();
+        assertFalse(checker.test(c -> c.isNull().min(10)));
+        assertEquals(0, checker.exceptionTracker.getThrownCount());
+        assertEquals(0, checker.exceptionTracker.getPassedCount());
+
+        checker.isNull();
+        assertEquals(1, checker.exceptionTracker.getThrownCount());
+    }
+
+    @Test
+    void testNestedPropertiesDoNotRecord() {
+        Checker<Persona.InnerPerson> checker = Checker.check(new Persona.InnerPerson("Lucas", 1990), "person").saveErrors();
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(checker.test(c -> c.checkProperty(Persona.InnerPerson::getName, "name").isNull().end()));
+        }
+        ValidationResult result = checker.validate(c -> c.checkProperty(Persona.InnerPerson::getName, "name").isNull().end());
+        assertFalse(result.isValid());
+        assertEquals(0, checker.exceptionTracker.getChildCount());
+        assertEquals(0, checker.exceptionTracker.getThrownCount());
+        assertEquals(0, checker.exceptionTracker.getPassedCount());
+
+        checker.checkProperty(Persona.InnerPerson::getName, "name").isNull().end();
+        assertEquals(1, checker.exceptionTracker.getChildCount());
+        assertEquals(1, checker.exceptionTracker.getThrownCount());
+    }
+
+    @Test
+    void testValidate() {
+        ValidationResult valid = CheckerString.check("bob", "username").validate(c -> c.min(2));
+        assertTrue(valid.isValid());
+        assertEquals(List.of(), valid.getErrors());
+
+        ValidationResult result = Checker.check(new Persona.InnerPerson("Lucas", 23), "person")
+                .validate(checker -> checker
+                        .isNull()
+                        .checkProperty(Persona.InnerPerson::getName, "name").isNull().isNonNull().end());
+
+        assertFalse(result.isValid());
+        assertEquals("person", result.getName());
+        assertEquals(2, result.getErrorCount());
+        assertEquals(2, result.getMessages().size());
+
+        ExceptionTracker tracker = result.getExceptionTracker();
+        assertEquals(2, tracker.getThrownCount());
+        assertEquals(1, tracker.getThrownExceptions().get("person").size());
+        assertEquals(1, tracker.getThrownExceptions().get("person.name").size());
+        assertEquals(result.getMessages(), result.getErrors().stream().map(CheckerException::getMessage).toList());
+    }
+
+    @Test
+    void testAnyOf() {
+        for (String date : List.of("2024-01-31", "31/01/2024")) {
+            assertDoesNotThrow(() -> CheckerString.check(date, "date")
+                    .anyOf(c -> c.matches("\\d{4}-\\d{2}-\\d{2}"),
+                           c -> c.matches("\\d{2}/\\d{2}/\\d{4}")));
+        }
+        assertThrows(CheckerException.class, () -> CheckerString.check("31.01.2024", "date")
+                .anyOf(c -> c.matches("\\d{4}-\\d{2}-\\d{2}"),
+                       c -> c.matches("\\d{2}/\\d{2}/\\d{4}")));
+
+        int[] evaluated = new int[1];
+        CheckerString.check("a", "value").anyOf(
+                c -> { evaluated[0]++; c.min(0); },
+                c -> { evaluated[0]++; c.min(0); });
+        assertEquals(1, evaluated[0]);
+    }
+
+    @Test
+    void testAllOf() {
+        CheckerString checker = CheckerString.check("bob", "username").saveErrors();
+        checker.allOf(c -> c.min(2), c -> c.max(11))
+               .allOf(c -> c.min(2), c -> c.max(2));
+        assertEquals(1, checker.exceptionTracker.getThrownCount());
+        assertEquals(1, checker.exceptionTracker.getPassedCount());
+
+        assertTrue(CheckerString.check("bob").test(c -> c.anyOf(a -> a.min(10), a -> a.allOf(b -> b.min(1), b -> b.max(5)))));
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.luchersol.core.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.lang.System.Logger;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luchersol.core.specialized_checkers.CheckerString;
+
+class ViolationPipelineTest {
+
+    @Test
+    void testTrackerPublishesToSinks() throws InterruptedException {
+        AggregatingViolationSink sink = new AggregatingViolationSink();
+        try (ViolationPipeline pipeline = ViolationPipeline.of(16, sink).start()) {
+            Persona.InnerPerson person = new Persona.InnerPerson("Lucas", 23);
+            Checker<Persona.InnerPerson> checker = Checker.check(person, "person").saveErrors()
+                    .setTrackingLevel(ExceptionTracker.TrackingLevel.NONE)
+                    .setViolationPipeline(pipeline)
+                    .isNull();
+            checker.checkProperty(Persona.InnerPerson::getName, "name").isNull().end();
+            CheckerString.check("bob", "username").saveErrors().setViolationPipeline(pipeline).min(5).max(10);
+
+            assertTrue(pipeline.awaitDrained(5, TimeUnit.SECONDS));
+            assertEquals(3, sink.getTotal());
+            assertEquals(1, sink.getCount("username", "string.min.__not"));
+            assertEquals(List.of("person", "person.name", "username"), List.copyOf(sink.getCounts().keySet()));
+            assertEquals(2, checker.exceptionTracker.getThrownCount());
+            assertTrue(checker.exceptionTracker.getThrownExceptions().get("person").isEmpty());
+        }
+    }
+
+    @Test
+    void testMessagesUseThePublisherLocale() throws InterruptedException {
+        List<String> messages = new ArrayList<>();
+        Locale spanish = Locale.forLanguageTag("es");
+        try (ViolationPipeline pipeline = ViolationPipeline.of(16, violation -> messages.add(violation.message())).start()) {
+            MessageService.setLocale(spanish);
+            Checker<Integer> checker = Checker.check(1, "value").saveErrors().setViolationPipeline(pipeline);
+            checker.isInstance(String.class);
+            assertTrue(pipeline.awaitDrained(5, TimeUnit.SECONDS));
+
+            String expected = checker.exceptionTracker.getThrownExceptions().get("value").iterator().next().getMessage();
+            assertEquals(List.of(expected), messages);
+            assertTrue(expected.startsWith("El objeto no es instancia"), expected);
+        } finally {
+            MessageService.clearLocale();
+        }
+    }
+
+    @Test
+    void testDropPolicy() {
+        AggregatingViolationSink sink = new AggregatingViolationSink();
+        ViolationPipeline pipeline = ViolationPipeline.of(3, sink);
+        assertEquals(4, pipeline.getCapacity());
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.publish("value", violation());
+        }
+        assertEquals(4, pipeline.size());
+        assertEquals(6, pipeline.getDroppedCount());
+
+        pipeline.close();
+        assertEquals(4, sink.getTotal());
+        assertFalse(pipeline.publish("value", violation()));
+        assertThrows(IllegalStateException.class, pipeline::start);
+    }
+
+    @Test
+    void testSamplePolicy() {
+        ViolationPipeline pipeline = ViolationPipeline.of(8, new AggregatingViolationSink())
+                .setOverflowPolicy(ViolationPipeline.OverflowPolicy.SAMPLE)
+                .setSampleRate(2);
+
+        List<Boolean> accepted = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            accepted.add(pipeline.publish("value", violation()));
+        }
+        assertEquals(List.of(true, true, true, true, true, true, true, false, true, false, false, false), accepted);
+        assertEquals(8, pipeline.getPublishedCount());
+        assertEquals(4, pipeline.getDroppedCount());
+    }
+
+    @Test
+    void testBlockPolicyLosesNothing() throws InterruptedException {
+        AggregatingViolationSink sink = new AggregatingViolationSink();
+        try (ViolationPipeline pipeline = ViolationPipeline.of(2, sink)
+                .setOverflowPolicy(ViolationPipeline.OverflowPolicy.BLOCK)
+                .start()) {
+            int threads = 4;
+            CountDownLatch done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                new Thread(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        pipeline.publish("value", violation());
+                    }
+                    done.countDown();
+                }).start();
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertTrue(pipeline.awaitDrained(10, TimeUnit.SECONDS));
+            assertEquals(1000, sink.getTotal());
+            assertEquals(0, pipeline.getDroppedCount());
+        }
+    }
+
+    @Test
+    void testFailingSinkDoesNotStopOthers() {
+        AggregatingViolationSink sink = new AggregatingViolationSink();
+        ViolationPipeline pipeline = ViolationPipeline.of(4, violation -> { throw new IllegalStateException(); }, sink);
+        pipeline.publish("value", violation());
+        pipeline.close();
+        assertEquals(1, sink.getTotal());
+        assertEquals(1, pipeline.getSinkErrorCount());
+    }
+
+    @Test
+    void testSinkErrorDoesNotStopThePipeline() throws InterruptedException {
+        AggregatingViolationSink sink = new AggregatingViolationSink();
+        try (ViolationPipeline pipeline = ViolationPipeline.of(2, violation -> { throw new AssertionError(); }, sink)
+                .setOverflowPolicy(ViolationPipeline.OverflowPolicy.BLOCK)
+                .start()) {
+            Thread publisher = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    pipeline.publish("value", violation());
+                }
+            });
+            publisher.start();
+            publisher.join(10_000);
+            assertFalse(publisher.isAlive());
+            assertTrue(pipeline.awaitDrained(10, TimeUnit.SECONDS));
+            assertEquals(100, sink.getTotal());
+            assertEquals(100, pipeline.getSinkErrorCount());
+        }
+    }
+
+    @Test
+    void testJsonLinesSink() throws Exception {
+        StringWriter out = new StringWriter();
+        ViolationPipeline pipeline = ViolationPipeline.of(4, JsonLinesViolationSink.of(out));
+        pipeline.publish("username", violation());
+        pipeline.publish("age", violation());
+        pipeline.close();
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals("username", first.get("subject").asText());
+        assertEquals("string.min.__not", first.get("code").asText());
+        assertFalse(first.get("message").asText().isEmpty());
+        assertTrue(first.get("timestamp").asLong() > 0);
+    }
+
+    @Test
+    void testLoggerSinkIsRateLimited() {
+        List<String> records = new ArrayList<>();
+        LoggerViolationSink logger = LoggerViolationSink.of(new RecordingLogger(records), 3);
+        ViolationPipeline pipeline = ViolationPipeline.of(16, logger);
+        for (int i = 0; i < 10; i++) {
+            pipeline.publish("username", violation());
+        }
+        pipeline.close();
+
+        assertEquals(4, records.size());
+        assertTrue(records.get(0).startsWith("username: "));
+        assertEquals("7 violations suppressed", records.get(3));
+        assertEquals(7, logger.getSuppressedCount());
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        AggregatingViolationSink sink = new AggregatingViolationSink();
+        assertThrows(IllegalArgumentException.class, () -> ViolationPipeline.of(0, sink));
+        assertThrows(IllegalArgumentException.class, () -> ViolationPipeline.of(4));
+        assertThrows(IllegalArgumentException.class, () -> ViolationPipeline.of(4, sink).setSampleRate(0));
+        assertThrows(IllegalArgumentException.class, () -> LoggerViolationSink.of(new RecordingLogger(new ArrayList<>()), 0));
+        assertEquals(Map.of(), sink.getCounts());
+    }
+
+    private static CheckerException violation() {
+        return new CheckerException(MessageService.sendMessage("string", "min", 5)).negate();
+    }
+
+    private record RecordingLogger(List<String> records) implements Logger {
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public boolean isLoggable(Level level) {
+            return true;
+        }
+
+        @Override
+        public void log(Level level, ResourceBundle bundle, String msg, Throwable thrown) {
+            this.records.add(msg);
+        }
+
+        @Override
+        public void log(Level level, ResourceBundle bundle, String format, Object... params) {
+            this.records.add(MessageFormat.format(format, params));
+        }
+
+    }
+
+}